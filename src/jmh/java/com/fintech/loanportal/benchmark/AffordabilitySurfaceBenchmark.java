@@ -0,0 +1,70 @@
+package com.fintech.loanportal.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fintech.loanportal.dto.AffordabilitySurface;
+import com.fintech.loanportal.dto.AffordabilitySurfaceRequest;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+/**
+ * Full pre-qualification surface (6 loan types x 12 terms x 4 DTI caps) in one
+ * call versus the same 288 cells through calculateMaxAffordableLoan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AffordabilitySurfaceBenchmark {
+
+    private static final int[] TERMS = {12, 24, 36, 48, 60, 72, 84, 120, 180, 240, 300, 360};
+    private static final List<BigDecimal> RATIOS = List.of(
+        new BigDecimal("0.28"), new BigDecimal("0.36"), new BigDecimal("0.43"), new BigDecimal("0.50"));
+
+    private LoanCalculationService service;
+    private AffordabilitySurfaceRequest request;
+    private Map<String, BigDecimal> rates;
+
+    @Setup
+    public void setUp() {
+        service = new LoanCalculationService(new AnnuityFactorCache());
+        request = new AffordabilitySurfaceRequest();
+        request.setMonthlyIncome(new BigDecimal("9250.00"));
+        request.setExistingDebt(new BigDecimal("725.50"));
+        rates = service.getCurrentInterestRates();
+    }
+
+    @Benchmark
+    public AffordabilitySurface surface() {
+        return service.calculateAffordabilitySurface(request);
+    }
+
+    @Benchmark
+    public void perCallLoop(Blackhole blackhole) {
+        for (BigDecimal ratio : RATIOS) {
+            for (BigDecimal rate : rates.values()) {
+                for (int term : TERMS) {
+                    blackhole.consume(service.calculateMaxAffordableLoan(
+                        request.getMonthlyIncome(), request.getExistingDebt(), rate, term, ratio));
+                }
+            }
+        }
+    }
+}
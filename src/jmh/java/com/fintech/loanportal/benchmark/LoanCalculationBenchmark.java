@@ -0,0 +1,86 @@
+package com.fintech.loanportal.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.AmortizationEngine;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+/**
+ * Hot path of the loan calculation services across short and long terms.
+ *
+ * Services are constructed directly, so the Spring cache is bypassed and every
+ * operation does the full calculation. Run through {@link BenchmarkRunner} to
+ * get allocation figures alongside throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanCalculationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Loan {
+
+        @Param({"12", "60", "360", "480"})
+        public int termMonths;
+
+        public final BigDecimal amount = new BigDecimal("325000.00");
+        public final BigDecimal rate = new BigDecimal("6.75");
+        public LoanCalculationRequest request;
+
+        @Setup
+        public void setUp() {
+            request = new LoanCalculationRequest();
+            request.setLoanAmount(amount);
+            request.setInterestRate(rate);
+            request.setLoanTermMonths(termMonths);
+            request.setStartDate(LocalDate.of(2025, 1, 1));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Engine {
+
+        @Param({"BIG_DECIMAL", "FIXED_POINT"})
+        public AmortizationEngine engine;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Services {
+        public final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+    }
+
+    @Benchmark
+    public LoanCalculationResult calculateLoan(Loan loan, Engine engine, Services services) {
+        return services.service.calculateLoan(loan.request, engine.engine);
+    }
+
+    @Benchmark
+    public BigDecimal calculateMaxAffordableLoan(Loan loan, Services services) {
+        return services.service.calculateMaxAffordableLoan(new BigDecimal("9250.00"), new BigDecimal("725.50"),
+            loan.rate, loan.termMonths, null);
+    }
+
+    @Benchmark
+    public BigDecimal calculateSimpleInterest(Loan loan, Services services) {
+        return services.service.calculateSimpleInterest(loan.amount, loan.rate, loan.termMonths * 30);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fintech.loanportal.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.service.AmortizationEngine;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationEngine;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+/**
+ * Every calculation engine over the same seeded corpus of loans, so engines
+ * are compared on an identical mix of amounts, rates and terms (including
+ * sub-cent amounts that the fixed-point engine hands back to BigDecimal).
+ * Scores are per calculation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanCalculationEngineBenchmark {
+
+    private static final int CORPUS_SIZE = 512;
+
+    @Param({"BIG_DECIMAL", "FIXED_POINT", "CROSS_CHECK"})
+    public AmortizationEngine engine;
+
+    private LoanCalculationEngine calculationEngine;
+    private LoanCalculationRequest[] corpus;
+
+    @Setup
+    public void setUp() {
+        calculationEngine = new LoanCalculationService(new AnnuityFactorCache()).getCalculationEngine(engine);
+        Random random = new Random(20240101L);
+        corpus = new LoanCalculationRequest[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            LoanCalculationRequest request = new LoanCalculationRequest();
+            // One in sixteen amounts carries a sub-cent digit
+            request.setLoanAmount(i % 16 == 0
+                ? BigDecimal.valueOf(1_000_000 + random.nextInt(1_000_000_000), 3)
+                : BigDecimal.valueOf(100_000 + random.nextInt(1_000_000_000), 2));
+            request.setInterestRate(BigDecimal.valueOf(random.nextInt(3001), 2));
+            request.setLoanTermMonths(1 + random.nextInt(480));
+            request.setStartDate(LocalDate.of(2025, 1, 1));
+            corpus[i] = request;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void calculateCorpus(Blackhole blackhole) {
+        for (LoanCalculationRequest request : corpus) {
+            blackhole.consume(calculationEngine.calculate(request));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintech.loanportal.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+/**
+ * Prints the retained heap of a cached loan calculation result with the
+ * schedule held as a list of entries versus the compact primitive-array form.
+ */
+public final class ScheduleFootprint {
+
+    private ScheduleFootprint() {
+    }
+
+    public static void main(String[] args) {
+        LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+        System.out.printf("%6s %14s %14s %8s%n", "term", "entries (B)", "compact (B)", "ratio");
+        for (int term : new int[] {12, 60, 360, 480}) {
+            LoanCalculationRequest request = new LoanCalculationRequest();
+            request.setLoanAmount(new BigDecimal("325000.00"));
+            request.setInterestRate(new BigDecimal("6.75"));
+            request.setLoanTermMonths(term);
+            request.setStartDate(LocalDate.of(2025, 1, 1));
+
+            LoanCalculationResult compact = service.calculateLoan(request);
+            LoanCalculationResult entries = service.calculateLoan(request);
+            List<AmortizationScheduleEntry> rows = new ArrayList<>(entries.getAmortizationSchedule());
+            entries.setAmortizationSchedule(rows);
+
+            if (compact.getCompactSchedule() == null) {
+                throw new IllegalStateException("Expected a compact schedule for a whole-cent loan");
+            }
+            long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+            long entryBytes = GraphLayout.parseInstance(entries).totalSize();
+            System.out.printf("%6d %14d %14d %7.1fx%n", term, entryBytes, compactBytes,
+                (double) entryBytes / compactBytes);
+        }
+    }
+}
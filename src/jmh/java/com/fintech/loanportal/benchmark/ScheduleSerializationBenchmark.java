@@ -0,0 +1,100 @@
+package com.fintech.loanportal.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.loanportal.config.JacksonConfig;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+/**
+ * JSON serialization of a calculation result: reflective bean serialization
+ * versus the hand-written serializers registered by {@link JacksonConfig}.
+ * Output goes to a byte-counting sink so only serialization is measured;
+ * compare gc.alloc.rate.norm for bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleSerializationBenchmark {
+
+    @Param({"60", "360"})
+    public int termMonths;
+
+    private LoanCalculationResult result;
+    private ObjectWriter beanWriter;
+    private ObjectWriter handWrittenWriter;
+    private final CountingSink sink = new CountingSink();
+
+    @Setup
+    public void setUp() {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal("325000.00"));
+        request.setInterestRate(new BigDecimal("6.75"));
+        request.setLoanTermMonths(termMonths);
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        result = new LoanCalculationService(new AnnuityFactorCache()).calculateLoan(request);
+
+        beanWriter = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build().writer();
+        handWrittenWriter = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new JacksonConfig().loanCalculationModule())
+            .build().writer();
+    }
+
+    @Benchmark
+    public long beanSerializer() throws IOException {
+        beanWriter.writeValue(sink, result);
+        return sink.count;
+    }
+
+    @Benchmark
+    public long handWrittenSerializer() throws IOException {
+        handWrittenWriter.writeValue(sink, result);
+        return sink.count;
+    }
+
+    private static final class CountingSink extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // writeValue closes the target; keep the sink reusable
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.fintech.loanportal.config;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+
+/**
+ * Writes a schedule row directly with the generator, with the property names
+ * and order bean serialization would use.
+ *
+ * Wraps the bean serializer Jackson built for the entry and falls back to it
+ * whenever the mapper is configured in a way the hand-written path does not
+ * reproduce (see {@link PropertyLayout} and
+ * {@link ScheduleJsonWriter#matchesBeanSerialization}).
+ */
+public class AmortizationScheduleEntrySerializer extends StdSerializer<AmortizationScheduleEntry>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    enum Field {
+        MONTH("month"),
+        PRINCIPAL("principal"),
+        INTEREST("interest"),
+        REMAINING_BALANCE("remainingBalance"),
+        PAYMENT_NUMBER("paymentNumber"),
+        PAYMENT_DATE("paymentDate"),
+        PAYMENT_AMOUNT("paymentAmount"),
+        CUMULATIVE_INTEREST("cumulativeInterest");
+
+        private final String propertyName;
+
+        Field(String propertyName) {
+            this.propertyName = propertyName;
+        }
+    }
+
+    private final JsonSerializer<Object> beanSerializer;
+    private final PropertyLayout<Field> layout;
+    private boolean handWritten;
+
+    @SuppressWarnings("unchecked")
+    public AmortizationScheduleEntrySerializer(JsonSerializer<?> beanSerializer, BeanDescription beanDesc) {
+        super(AmortizationScheduleEntry.class);
+        this.beanSerializer = (JsonSerializer<Object>) beanSerializer;
+        this.layout = PropertyLayout.of(beanDesc, Field.class, field -> field.propertyName);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+        handWritten = layout != null
+            && ScheduleJsonWriter.matchesBeanSerialization(provider, AmortizationScheduleEntry.class);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = provider.handlePrimaryContextualization(beanSerializer, property);
+        return contextual == beanSerializer ? this : contextual;
+    }
+
+    /**
+     * Whether rows are written by hand rather than by the bean serializer.
+     */
+    boolean isHandWritten() {
+        return handWritten;
+    }
+
+    @Override
+    public void serialize(AmortizationScheduleEntry entry, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (!handWritten) {
+            beanSerializer.serialize(entry, gen, provider);
+            return;
+        }
+        writeEntry(entry, new ScheduleJsonWriter(gen, provider, AmortizationScheduleEntry.class), gen);
+    }
+
+    @Override
+    public void serializeWithType(AmortizationScheduleEntry entry, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        beanSerializer.serializeWithType(entry, gen, provider, typeSer);
+    }
+
+    void writeEntry(AmortizationScheduleEntry entry, ScheduleJsonWriter writer, JsonGenerator gen)
+            throws IOException {
+        gen.writeStartObject(entry);
+        for (Field field : layout.order()) {
+            SerializedString name = layout.name(field);
+            switch (field) {
+                case MONTH -> writer.writeIntField(name, entry.getMonth());
+                case PRINCIPAL -> writer.writeDecimalField(name, entry.getPrincipal());
+                case INTEREST -> writer.writeDecimalField(name, entry.getInterest());
+                case REMAINING_BALANCE -> writer.writeDecimalField(name, entry.getRemainingBalance());
+                case PAYMENT_NUMBER -> writer.writeIntField(name, entry.getPaymentNumber());
+                case PAYMENT_DATE -> writer.writeDateField(name, entry.getPaymentDate());
+                case PAYMENT_AMOUNT -> writer.writeDecimalField(name, entry.getPaymentAmount());
+                case CUMULATIVE_INTEREST -> writer.writeDecimalField(name, entry.getCumulativeInterest());
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Write one row of a compact schedule straight from its primitive columns.
+     */
+    void writeRow(CompactAmortizationSchedule schedule, int row, ScheduleJsonWriter writer, JsonGenerator gen)
+            throws IOException {
+        gen.writeStartObject();
+        for (Field field : layout.order()) {
+            SerializedString name = layout.name(field);
+            switch (field) {
+                case MONTH -> writer.writeIntField(name, 0);
+                case PRINCIPAL -> writer.writeCentsField(name, schedule.getPrincipalCents(row));
+                case INTEREST -> writer.writeCentsField(name, schedule.getInterestCents(row));
+                case REMAINING_BALANCE -> writer.writeCentsField(name, schedule.getRemainingBalanceCents(row));
+                case PAYMENT_NUMBER -> writer.writeIntField(name, schedule.getFirstPaymentNumber() + row);
+                case PAYMENT_DATE -> writer.writeEpochDayField(name, schedule.getPaymentEpochDay(row));
+                case PAYMENT_AMOUNT -> writer.writeCentsField(name, schedule.getPaymentCents(row));
+                case CUMULATIVE_INTEREST -> writer.writeCentsField(name, schedule.getCumulativeInterestCents(row));
+            }
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fintech.loanportal.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary response formats for programmatic clients.
+ *
+ * Any endpoint returning a Jackson-serializable body can be requested with
+ * {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile}.
+ * Both mappers start from the same builder as the JSON mapper, so modules and
+ * settings match. On these generators {@link LoanCalculationResultSerializer}
+ * writes amortization schedules in the columnar delta form of
+ * {@link ColumnarScheduleSerializer}. JSON output is unchanged.
+ */
+@Configuration
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+    }
+
+    static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder,
+                                     com.fasterxml.jackson.core.JsonFactory factory) {
+        return builder.factory(factory).build();
+    }
+}
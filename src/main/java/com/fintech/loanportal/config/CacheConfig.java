@@ -0,0 +1,200 @@
+package com.fintech.loanportal.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.security.CustomUserDetailsService;
+import com.fintech.loanportal.security.PrincipalCache;
+import com.fintech.loanportal.security.VerifiedTokenCache;
+import com.fintech.loanportal.service.CircuitBreaker;
+import com.fintech.loanportal.service.LoanCalculationKey;
+import com.fintech.loanportal.service.LoanCalculationResultCodec;
+import com.fintech.loanportal.service.RedisRemoteCacheStore;
+import com.fintech.loanportal.service.RemoteCacheStore;
+import com.fintech.loanportal.service.TwoTierCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Cache configuration for the application.
+ *
+ * Loan calculation results are held in a bounded Caffeine cache:
+ * - Weighted by schedule and roll-up rows, so a 480-month result costs 40x a 12-month one
+ * - Bounded by total weight (every entry weighs at least 1, which also caps entries)
+ * - Expired after a fixed time-to-live
+ * - Statistics recorded and published through actuator as cache.* metrics
+ *
+ * With app.cache.redis.enabled=true the Caffeine cache becomes the L1 of a
+ * {@link TwoTierCache} whose L2 is Redis, so nodes share each other's results.
+ * Redis calls sit behind a circuit breaker; when Redis is slow or down the
+ * cache keeps working from L1 alone.
+ *
+ * Verified access tokens are cached separately; see {@link VerifiedTokenCache}.
+ * So are principals of users changed since their token was issued; see
+ * {@link PrincipalCache}.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String LOAN_CALCULATIONS = "loanCalculations";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.loan-calculations.max-weight:500000}") long maxWeight,
+            @Value("${app.cache.loan-calculations.ttl:PT30M}") Duration ttl,
+            @Value("${app.cache.redis.ttl:PT6H}") Duration remoteTtl,
+            @Value("${app.cache.redis.failure-threshold:5}") int failureThreshold,
+            @Value("${app.cache.redis.open-duration:PT30S}") Duration openDuration,
+            @Value("${app.cache.redis.slow-call-threshold:PT0.05S}") Duration slowCallThreshold,
+            ObjectProvider<RemoteCacheStore> remoteCacheStore) {
+        RemoteCacheStore remote = remoteCacheStore.getIfAvailable();
+        CaffeineCacheManager cacheManager = remote == null ? new CaffeineCacheManager() : new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Cache local = super.adaptCaffeineCache(name, cache);
+                if (!LOAN_CALCULATIONS.equals(name)) {
+                    return local;
+                }
+                return new TwoTierCache(name, local, remote, new LoanCalculationValueCodec(),
+                    CacheConfig::remoteKey, remoteTtl,
+                    new CircuitBreaker(failureThreshold, openDuration, slowCallThreshold));
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(LOAN_CALCULATIONS, Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher(CacheConfig::weigh)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build());
+        return cacheManager;
+    }
+
+    /**
+     * Claims of recently verified access tokens, published as
+     * {@code cache.*{cache=verifiedTokens}}. Entries never outlive their token.
+     */
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(
+            @Value("${app.jwt.verified-cache.enabled:true}") boolean enabled,
+            @Value("${app.jwt.verified-cache.max-size:100000}") long maximumSize,
+            @Value("${app.jwt.verified-cache.ttl:PT1H}") Duration ttl) {
+        return new VerifiedTokenCache(enabled, maximumSize, ttl);
+    }
+
+    /**
+     * Principals loaded for users whose token claims are no longer trusted,
+     * published as {@code cache.*{cache=principals}}.
+     */
+    @Bean
+    public PrincipalCache principalCache(
+            ObjectProvider<CustomUserDetailsService> userDetailsService,
+            @Value("${app.security.principal-cache.max-size:10000}") long maximumSize,
+            @Value("${app.security.principal-cache.ttl:PT1M}") Duration ttl,
+            @Value("${app.jwt.expiration:86400}") long tokenLifetimeSeconds) {
+        return new PrincipalCache(userId -> userDetailsService.getObject().loadUserById(userId), maximumSize, ttl,
+            Duration.ofSeconds(tokenLifetimeSeconds));
+    }
+
+    /**
+     * Cache key for loan calculations; see {@link LoanCalculationKey}.
+     */
+    @Bean
+    public KeyGenerator loanCalculationKeyGenerator() {
+        return (target, method, params) -> params[0] instanceof LoanCalculationRequest request
+            ? LoanCalculationKey.of(request)
+            : SimpleKey.EMPTY;
+    }
+
+    /**
+     * Redis-backed L2 for the loan calculation cache. Keep
+     * spring.data.redis.timeout short: a hung call holds up the request until
+     * it times out and trips the circuit breaker.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public RemoteCacheStore loanCalculationRemoteStore(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return new RedisRemoteCacheStore(template);
+    }
+
+    /**
+     * Publishes L1 Caffeine statistics plus remote-tier counters for two-tier caches.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return new TwoTierCacheMeterBinderProvider();
+    }
+
+    private static String remoteKey(Object key) {
+        if (key instanceof LoanCalculationKey calculationKey) {
+            return calculationKey.toRemoteKey();
+        }
+        return String.valueOf(key);
+    }
+
+    private static int weigh(Object key, Object value) {
+        if (value instanceof LoanCalculationResult result) {
+            return 1 + size(result.getAmortizationSchedule()) + size(result.getYearlyRollups())
+                + size(result.getQuarterlyRollups());
+        }
+        return 1;
+    }
+
+    private static final class LoanCalculationValueCodec implements TwoTierCache.ValueCodec {
+
+        @Override
+        public byte[] encode(Object value) {
+            return LoanCalculationResultCodec.encode((LoanCalculationResult) value);
+        }
+
+        @Override
+        public Object decode(byte[] bytes) {
+            return LoanCalculationResultCodec.decode(bytes);
+        }
+    }
+
+    private static final class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+        private final CaffeineCacheMeterBinderProvider caffeine = new CaffeineCacheMeterBinderProvider();
+
+        @Override
+        public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+            MeterBinder local = caffeine.getMeterBinder((CaffeineCache) cache.getLocalCache(), tags);
+            return (MeterRegistry registry) -> {
+                local.bindTo(registry);
+                cache.bindTo(registry);
+            };
+        }
+    }
+
+    private static int size(List<?> rows) {
+        return rows != null ? rows.size() : 0;
+    }
+}
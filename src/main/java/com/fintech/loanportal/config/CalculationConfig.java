@@ -0,0 +1,104 @@
+package com.fintech.loanportal.config;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationKey;
+import com.fintech.loanportal.service.SingleFlight;
+
+/**
+ * Infrastructure for CPU-bound loan calculations.
+ *
+ * Batch and bulk calculations run on a dedicated fork-join pool so they never
+ * compete with the common pool or tie up servlet threads beyond the caller.
+ */
+@Configuration
+public class CalculationConfig {
+
+    /**
+     * Bounded fork-join pool for fanning out batch calculations.
+     * Parallelism defaults to the number of available processors.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool loanCalculationPool(
+            @Value("${app.loan.calculation.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("loan-calc-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * Runs rate-shock re-pricing jobs. Each job fans its chunks out over the
+     * calculation pool, so a couple of threads are enough; jobs beyond the
+     * queue are rejected rather than piling up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor rateShockJobExecutor(
+            @Value("${app.portfolio.rate-shock.threads:2}") int threads,
+            @Value("${app.portfolio.rate-shock.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("rate-shock-");
+        return executor;
+    }
+
+    /**
+     * Shared (1+r)^n factor table for payment and affordability calculations.
+     * Hit and miss counts are published as {@code cache.gets{cache=annuityFactors}}.
+     */
+    @Bean
+    public AnnuityFactorCache annuityFactorCache(
+            @Value("${app.loan.annuity-cache.capacity:" + AnnuityFactorCache.DEFAULT_CAPACITY + "}") int capacity) {
+        return new AnnuityFactorCache(capacity);
+    }
+
+    /**
+     * In-flight deduplication of identical loan calculations. Published as
+     * {@code singleflight.*{name=loanCalculations}}.
+     */
+    @Bean
+    public SingleFlight<LoanCalculationKey, LoanCalculationResult> loanCalculationSingleFlight(
+            @Value("${app.loan.calculation.coalesce-timeout:PT5S}") Duration timeout) {
+        return new SingleFlight<>("loanCalculations", timeout);
+    }
+
+    /**
+     * Run a task on the calculation pool and wait for its result. A runtime
+     * exception thrown by the task reaches the caller unchanged; an interrupt
+     * or checked failure becomes an IllegalStateException naming the operation.
+     */
+    public static <T> T runOnPool(ForkJoinPool pool, Callable<T> task, String operation) {
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(operation + " interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(operation + " failed", cause);
+        }
+    }
+
+    public static void runOnPool(ForkJoinPool pool, Runnable task, String operation) {
+        runOnPool(pool, Executors.callable(task), operation);
+    }
+}
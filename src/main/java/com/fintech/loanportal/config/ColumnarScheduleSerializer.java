@@ -0,0 +1,89 @@
+package com.fintech.loanportal.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+
+/**
+ * Writes an amortization schedule as delta-encoded columns for binary formats.
+ *
+ * Instead of an array of row objects the schedule becomes:
+ *
+ * <pre>
+ * {"encoding": "columnar-delta-v1", "firstPaymentNumber": 1,
+ *  "paymentDate": [...], "paymentAmount": [...], "principal": [...],
+ *  "interest": [...], "remainingBalance": [...], "cumulativeInterest": [...]}
+ * </pre>
+ *
+ * Dates are epoch days and amounts are cents. Each column holds the first
+ * value followed by differences from the previous row, so most cells fit in
+ * one to three bytes of CBOR or Smile. Schedules with sub-cent amounts are
+ * written as the usual array of rows.
+ */
+public class ColumnarScheduleSerializer extends StdSerializer<List<AmortizationScheduleEntry>> {
+
+    public static final String ENCODING = "columnar-delta-v1";
+
+    @SuppressWarnings("unchecked")
+    public ColumnarScheduleSerializer() {
+        super((Class<List<AmortizationScheduleEntry>>) (Class<?>) List.class);
+    }
+
+    @Override
+    public void serialize(List<AmortizationScheduleEntry> schedule, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        CompactAmortizationSchedule compact = CompactAmortizationSchedule.viewedBy(schedule);
+        if (compact == null) {
+            compact = CompactAmortizationSchedule.fromEntries(schedule);
+        }
+        if (compact == null) {
+            provider.defaultSerializeValue(schedule, gen);
+            return;
+        }
+
+        int size = compact.size();
+        long[] column = new long[size];
+        gen.writeStartObject();
+        gen.writeStringField("encoding", ENCODING);
+        gen.writeNumberField("firstPaymentNumber", compact.getFirstPaymentNumber());
+
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getPaymentEpochDay(i);
+        }
+        writeDeltas(gen, "paymentDate", column);
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getPaymentCents(i);
+        }
+        writeDeltas(gen, "paymentAmount", column);
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getPrincipalCents(i);
+        }
+        writeDeltas(gen, "principal", column);
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getInterestCents(i);
+        }
+        writeDeltas(gen, "interest", column);
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getRemainingBalanceCents(i);
+        }
+        writeDeltas(gen, "remainingBalance", column);
+        for (int i = 0; i < size; i++) {
+            column[i] = compact.getCumulativeInterestCents(i);
+        }
+        writeDeltas(gen, "cumulativeInterest", column);
+        gen.writeEndObject();
+    }
+
+    private static void writeDeltas(JsonGenerator gen, String name, long[] column) throws IOException {
+        for (int i = column.length - 1; i > 0; i--) {
+            column[i] -= column[i - 1];
+        }
+        gen.writeFieldName(name);
+        gen.writeArray(column, 0, column.length);
+    }
+}
@@ -0,0 +1,47 @@
+package com.fintech.loanportal.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Jackson customizations. Module beans are picked up by Spring Boot's
+ * auto-configured ObjectMapper (and the builder used for CBOR and Smile).
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Hand-written serializers for calculation results and schedule rows,
+     * which dominate response serialization time. They wrap the bean
+     * serializers Jackson builds for these DTOs, so the mapper's naming
+     * strategy, property order and value formats still apply.
+     */
+    @Bean
+    public Module loanCalculationModule() {
+        SimpleModule module = new SimpleModule("loanCalculation");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                Class<?> type = beanDesc.getBeanClass();
+                if (type == LoanCalculationResult.class) {
+                    return new LoanCalculationResultSerializer(serializer, beanDesc);
+                }
+                if (type == AmortizationScheduleEntry.class) {
+                    return new AmortizationScheduleEntrySerializer(serializer, beanDesc);
+                }
+                return serializer;
+            }
+        });
+        return module;
+    }
+}
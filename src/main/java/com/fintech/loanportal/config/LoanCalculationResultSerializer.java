@@ -0,0 +1,181 @@
+package com.fintech.loanportal.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Writes a {@link LoanCalculationResult} directly with the generator.
+ *
+ * The JSON is identical to bean serialization: property names and order come
+ * from the bean description, and the wrapped bean serializer takes over
+ * whenever the mapper is configured in a way the hand-written path does not
+ * reproduce. When the schedule is backed by a
+ * {@link CompactAmortizationSchedule}, rows are written from its cent and
+ * epoch-day columns without materializing any entries. Binary generators
+ * (CBOR, Smile) get the columnar schedule of {@link ColumnarScheduleSerializer}.
+ */
+public class LoanCalculationResultSerializer extends StdSerializer<LoanCalculationResult>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    enum Field {
+        MONTHLY_PAYMENT("monthlyPayment"),
+        TOTAL_INTEREST("totalInterest"),
+        TOTAL_AMOUNT("totalAmount"),
+        AMORTIZATION_SCHEDULE("amortizationSchedule"),
+        LOAN_AMOUNT("loanAmount"),
+        INTEREST_RATE("interestRate"),
+        TERM_MONTHS("termMonths"),
+        TOTAL_PAYMENTS("totalPayments"),
+        CALCULATED_AT("calculatedAt"),
+        YEARLY_ROLLUPS("yearlyRollups"),
+        QUARTERLY_ROLLUPS("quarterlyRollups");
+
+        private final String propertyName;
+
+        Field(String propertyName) {
+            this.propertyName = propertyName;
+        }
+    }
+
+    private final JsonSerializer<Object> beanSerializer;
+    private final PropertyLayout<Field> layout;
+    private final ColumnarScheduleSerializer columnarSerializer = new ColumnarScheduleSerializer();
+    private boolean handWritten;
+    private AmortizationScheduleEntrySerializer entrySerializer;
+
+    @SuppressWarnings("unchecked")
+    public LoanCalculationResultSerializer(JsonSerializer<?> beanSerializer, BeanDescription beanDesc) {
+        super(LoanCalculationResult.class);
+        this.beanSerializer = (JsonSerializer<Object>) beanSerializer;
+        this.layout = PropertyLayout.of(beanDesc, Field.class, field -> field.propertyName);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+        handWritten = layout != null
+            && ScheduleJsonWriter.matchesBeanSerialization(provider, LoanCalculationResult.class);
+        JsonSerializer<?> rows = provider.findValueSerializer(AmortizationScheduleEntry.class);
+        entrySerializer = rows instanceof AmortizationScheduleEntrySerializer entries && entries.isHandWritten()
+            ? entries : null;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = provider.handlePrimaryContextualization(beanSerializer, property);
+        return contextual == beanSerializer ? this : contextual;
+    }
+
+    /**
+     * Whether results are written by hand rather than by the bean serializer.
+     */
+    boolean isHandWritten() {
+        return handWritten;
+    }
+
+    @Override
+    public void serialize(LoanCalculationResult result, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (!handWritten) {
+            beanSerializer.serialize(result, gen, provider);
+            return;
+        }
+        ScheduleJsonWriter writer = new ScheduleJsonWriter(gen, provider, LoanCalculationResult.class);
+        gen.writeStartObject(result);
+        for (Field field : layout.order()) {
+            SerializedString name = layout.name(field);
+            switch (field) {
+                case MONTHLY_PAYMENT -> writer.writeDecimalField(name, result.getMonthlyPayment());
+                case TOTAL_INTEREST -> writer.writeDecimalField(name, result.getTotalInterest());
+                case TOTAL_AMOUNT -> writer.writeDecimalField(name, result.getTotalAmount());
+                case AMORTIZATION_SCHEDULE ->
+                    writeSchedule(name, result.getAmortizationSchedule(), writer, gen, provider);
+                case LOAN_AMOUNT -> writer.writeDecimalField(name, result.getLoanAmount());
+                case INTEREST_RATE -> writer.writeDecimalField(name, result.getInterestRate());
+                case TERM_MONTHS -> {
+                    if (result.getTermMonths() == null) {
+                        writer.writeNullField(name);
+                    } else {
+                        writer.writeIntField(name, result.getTermMonths());
+                    }
+                }
+                case TOTAL_PAYMENTS -> writer.writeDecimalField(name, result.getTotalPayments());
+                case CALCULATED_AT -> writeDefault(name, result.getCalculatedAt(), writer, gen, provider);
+                case YEARLY_ROLLUPS -> writeDefault(name, result.getYearlyRollups(), writer, gen, provider);
+                case QUARTERLY_ROLLUPS -> writeDefault(name, result.getQuarterlyRollups(), writer, gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(LoanCalculationResult result, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        beanSerializer.serializeWithType(result, gen, provider, typeSer);
+    }
+
+    /**
+     * The timestamp and roll-ups (a few dozen small objects at most) go
+     * through the regular serializers.
+     */
+    private static void writeDefault(SerializedString name, Object value, ScheduleJsonWriter writer,
+                                     JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            writer.writeNullField(name);
+        } else {
+            provider.defaultSerializeField(name.getValue(), value, gen);
+        }
+    }
+
+    private void writeSchedule(SerializedString name, List<AmortizationScheduleEntry> schedule,
+                               ScheduleJsonWriter writer, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (schedule == null) {
+            writer.writeNullField(name);
+            return;
+        }
+        gen.writeFieldName(name);
+        if (gen.canWriteBinaryNatively()) {
+            columnarSerializer.serialize(schedule, gen, provider);
+            return;
+        }
+        if (entrySerializer == null) {
+            provider.defaultSerializeValue(schedule, gen);
+            return;
+        }
+        CompactAmortizationSchedule compact = CompactAmortizationSchedule.viewedBy(schedule);
+        gen.writeStartArray(schedule, schedule.size());
+        if (compact != null) {
+            for (int row = 0; row < compact.size(); row++) {
+                entrySerializer.writeRow(compact, row, writer, gen);
+            }
+        } else {
+            for (AmortizationScheduleEntry entry : schedule) {
+                if (entry == null) {
+                    gen.writeNull();
+                } else {
+                    entrySerializer.writeEntry(entry, writer, gen);
+                }
+            }
+        }
+        gen.writeEndArray();
+    }
+}
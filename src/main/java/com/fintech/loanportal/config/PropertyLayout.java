@@ -0,0 +1,78 @@
+package com.fintech.loanportal.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Order and output names of a DTO's properties under one mapper's
+ * configuration, for the serializers that write those properties by hand.
+ *
+ * Both come from Jackson's own bean introspection, so naming strategies,
+ * {@code @JsonProperty} renames, {@code @JsonPropertyOrder} and alphabetical
+ * sorting apply exactly as they do to bean serialization.
+ */
+final class PropertyLayout<F extends Enum<F>> {
+
+    private final List<F> order;
+    private final SerializedString[] names;
+
+    private PropertyLayout(List<F> order, SerializedString[] names) {
+        this.order = order;
+        this.names = names;
+    }
+
+    /**
+     * Match each serializable bean property to a field by its internal name.
+     *
+     * @return the layout, or null if the bean has a property none of the
+     *         fields cover or one with its own format, serializer or
+     *         inclusion annotation, in which case only bean serialization
+     *         is correct
+     */
+    static <F extends Enum<F>> PropertyLayout<F> of(BeanDescription beanDesc, Class<F> fields,
+                                                   Function<F, String> propertyName) {
+        F[] constants = fields.getEnumConstants();
+        Map<String, F> byPropertyName = new HashMap<>();
+        for (F field : constants) {
+            byPropertyName.put(propertyName.apply(field), field);
+        }
+        List<F> order = new ArrayList<>(constants.length);
+        SerializedString[] names = new SerializedString[constants.length];
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            if (!property.couldSerialize()) {
+                continue;
+            }
+            F field = byPropertyName.get(property.getInternalName());
+            AnnotatedMember accessor = property.getAccessor();
+            if (field == null || accessor == null || accessor.hasAnnotation(JsonFormat.class)
+                    || accessor.hasAnnotation(JsonSerialize.class) || accessor.hasAnnotation(JsonInclude.class)) {
+                return null;
+            }
+            order.add(field);
+            names[field.ordinal()] = new SerializedString(property.getName());
+        }
+        return new PropertyLayout<>(List.copyOf(order), names);
+    }
+
+    /**
+     * Fields in the order bean serialization writes them.
+     */
+    List<F> order() {
+        return order;
+    }
+
+    SerializedString name(F field) {
+        return names[field.ordinal()];
+    }
+}
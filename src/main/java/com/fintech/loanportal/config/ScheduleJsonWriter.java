@@ -0,0 +1,174 @@
+package com.fintech.loanportal.config;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+/**
+ * Low-level writers shared by the hand-written schedule serializers.
+ *
+ * Field names are pre-encoded {@link SerializableString}s. Cents and dates are
+ * formatted into a reusable char buffer and handed to the generator as
+ * characters, so no intermediate BigDecimal, LocalDate or String is created
+ * per cell. Output is byte-for-byte what bean serialization of the
+ * equivalent BigDecimal (scale 2) and LocalDate produces.
+ */
+final class ScheduleJsonWriter {
+
+    private final JsonGenerator gen;
+    private final boolean datesAsTimestamps;
+    private final boolean writeNulls;
+    private final char[] buffer = new char[24];
+
+    ScheduleJsonWriter(JsonGenerator gen, SerializerProvider provider, Class<?> type) {
+        this.gen = gen;
+        this.datesAsTimestamps = provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    /**
+     * Whether these writers produce what bean serialization of {@code type}
+     * would under the provider's configuration: stock number and LocalDate
+     * serializers without format overrides, and nulls either written or
+     * skipped. Any other setup is left to bean serialization.
+     */
+    static boolean matchesBeanSerialization(SerializerProvider provider, Class<?> type) throws JsonMappingException {
+        SerializationConfig config = provider.getConfig();
+        for (Class<?> valueType : new Class<?>[] {BigDecimal.class, LocalDate.class, Integer.class, int.class}) {
+            JsonFormat.Value format = config.getDefaultPropertyFormat(valueType);
+            if (format.getShape() != JsonFormat.Shape.ANY || format.hasPattern()) {
+                return false;
+            }
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type).getValueInclusion();
+        if (inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT
+                || inclusion == JsonInclude.Include.CUSTOM) {
+            return false;
+        }
+        JsonSerializer<?> decimals = provider.findValueSerializer(BigDecimal.class);
+        JsonSerializer<?> integers = provider.findValueSerializer(Integer.class);
+        JsonSerializer<?> dates = provider.findValueSerializer(LocalDate.class);
+        return decimals instanceof NumberSerializer
+            && integers instanceof NumberSerializers.IntegerSerializer
+            && dates instanceof LocalDateSerializer;
+    }
+
+    void writeCentsField(SerializableString name, long cents) throws IOException {
+        gen.writeFieldName(name);
+        writeCents(cents);
+    }
+
+    void writeCents(long cents) throws IOException {
+        long magnitude = Math.abs(cents);
+        int position = buffer.length;
+        buffer[--position] = (char) ('0' + magnitude % 10);
+        magnitude /= 10;
+        buffer[--position] = (char) ('0' + magnitude % 10);
+        magnitude /= 10;
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+        } while (magnitude != 0);
+        if (cents < 0) {
+            buffer[--position] = '-';
+        }
+        gen.writeNumber(buffer, position, buffer.length - position);
+    }
+
+    void writeDecimalField(SerializableString name, BigDecimal value) throws IOException {
+        if (value == null) {
+            writeNullField(name);
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    void writeIntField(SerializableString name, int value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    void writeNullField(SerializableString name) throws IOException {
+        if (writeNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    void writeDateField(SerializableString name, LocalDate date) throws IOException {
+        if (date == null) {
+            writeNullField(name);
+            return;
+        }
+        writeEpochDayField(name, date.toEpochDay());
+    }
+
+    /**
+     * Write a date given as epoch day, in ISO form or as [year, month, day]
+     * depending on WRITE_DATES_AS_TIMESTAMPS, like the JavaTimeModule does.
+     */
+    void writeEpochDayField(SerializableString name, long epochDay) throws IOException {
+        gen.writeFieldName(name);
+        // Civil-from-days conversion, as in LocalDate.ofEpochDay
+        long zeroDay = epochDay + 719_528 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / 146_097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146_097;
+        }
+        long yearEst = (400 * zeroDay + 591) / 146_097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + marchMonth0 / 10;
+
+        if (datesAsTimestamps) {
+            gen.writeStartArray();
+            gen.writeNumber(year);
+            gen.writeNumber(month);
+            gen.writeNumber(day);
+            gen.writeEndArray();
+            return;
+        }
+        if (year < 0 || year > 9999) {
+            gen.writeString(LocalDate.ofEpochDay(epochDay).toString());
+            return;
+        }
+        int y = (int) year;
+        buffer[0] = (char) ('0' + y / 1000);
+        buffer[1] = (char) ('0' + y / 100 % 10);
+        buffer[2] = (char) ('0' + y / 10 % 10);
+        buffer[3] = (char) ('0' + y % 10);
+        buffer[4] = '-';
+        buffer[5] = (char) ('0' + month / 10);
+        buffer[6] = (char) ('0' + month % 10);
+        buffer[7] = '-';
+        buffer[8] = (char) ('0' + day / 10);
+        buffer[9] = (char) ('0' + day % 10);
+        gen.writeString(buffer, 0, 10);
+    }
+}
@@ -1,8 +1,15 @@
 package com.fintech.loanportal.config;
 
+import com.fintech.loanportal.security.BoundedPasswordEncoder;
 import com.fintech.loanportal.security.JwtAuthenticationFilter;
 import com.fintech.loanportal.security.JwtAuthenticationEntryPoint;
+import com.fintech.loanportal.security.PublicEndpoints;
+import com.fintech.loanportal.security.UpgradingBCryptPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,8 +19,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
@@ -21,6 +26,10 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
 import java.util.Arrays;
 
 /**
@@ -31,19 +40,24 @@ import java.util.Arrays;
  * - Role-based authorization (USER, ADMIN)
  * - CORS configuration for frontend integration
  * - Security headers for XSS and clickjacking protection
- * - BCrypt password encryption
+ * - BCrypt password hashing with a fleet-wide cost
  * - Rate limiting and CSRF protection
  * 
  * Public endpoints:
  * - /api/auth/** (login, register)
- * - /api/loans/calculate (loan calculator)
+ * - /api/loans/calculate, /calculate/schedule and /calculate/stream (single-loan calculator)
+ * - /api/loans/rates (current rates)
  * - /swagger-ui/** (API documentation)
- * - /actuator/health (health checks)
+ * - /actuator/health and /actuator/info (health checks)
+ *
+ * The list lives in {@link PublicEndpoints} so the JWT filter skips the same paths.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
@@ -51,12 +65,38 @@ public class SecurityConfig {
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     /**
-     * Password encoder using BCrypt with strength 12 for enhanced security.
-     * BCrypt is specifically designed for password hashing and includes salt.
+     * Password encoder using BCrypt, which is specifically designed for
+     * password hashing and includes salt. The cost comes from
+     * app.security.password-hashing.cost, which must be the same on every
+     * node and at least min-cost; stored hashes with a lower cost are
+     * re-hashed at login. Calibration to the target latency logs the cost as
+     * a property line to roll out to every node, rather than applying it:
+     * a node with a higher cost would permanently upgrade hashes for the
+     * whole fleet.
+     * Hashing runs on a bounded pool of its own (0 threads = half the
+     * processors), so login bursts cannot starve other endpoints.
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.cost:12}") int cost,
+            @Value("${app.security.password-hashing.calibrate:false}") boolean calibrate,
+            @Value("${app.security.password-hashing.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${app.security.password-hashing.min-cost:10}") int minCost,
+            @Value("${app.security.password-hashing.max-cost:14}") int maxCost,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (cost < minCost) {
+            throw new IllegalArgumentException("BCrypt cost " + cost + " is below the minimum of " + minCost);
+        }
+        if (calibrate) {
+            logger.info("Calibrated for {} ms per hash on this host (configured cost {}): "
+                + "app.security.password-hashing.cost={}", targetLatency.toMillis(), cost,
+                UpgradingBCryptPasswordEncoder.calibrate(targetLatency, minCost, maxCost));
+        }
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new UpgradingBCryptPasswordEncoder(cost), poolSize, queueCapacity,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 
     /**
@@ -124,15 +164,8 @@ public class SecurityConfig {
             // Authorization rules
             .authorizeHttpRequests(authz -> authz
                 // Public endpoints - no authentication required
-                .requestMatchers("/api/auth/**").permitAll()
-                .requestMatchers(HttpMethod.POST, "/api/loans/calculate").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/loans/rates").permitAll()
-                
-                // API documentation
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                
-                // Health checks
-                .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                // (auth, single-loan calculator, rates, API docs and health checks)
+                .requestMatchers(PublicEndpoints.MATCHER).permitAll()
                 
                 // Admin endpoints - require ADMIN role
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
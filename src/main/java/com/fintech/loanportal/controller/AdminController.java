@@ -2,14 +2,21 @@ package com.fintech.loanportal.controller;
 
 import com.fintech.loanportal.entity.LoanApplication;
 import com.fintech.loanportal.entity.User;
+import com.fintech.loanportal.security.PrincipalCache;
 import com.fintech.loanportal.service.AdminService;
+import com.fintech.loanportal.service.PortfolioProjectionService;
+import com.fintech.loanportal.service.PortfolioRiskSimulationService;
+import com.fintech.loanportal.service.RateShockRepricingService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -20,6 +27,18 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private PortfolioProjectionService portfolioProjectionService;
+
+    @Autowired
+    private PortfolioRiskSimulationService portfolioRiskSimulationService;
+
+    @Autowired
+    private RateShockRepricingService rateShockRepricingService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
     @GetMapping("/loans")
     public ResponseEntity<List<LoanApplication>> getAllLoanApplications() {
         List<LoanApplication> loanApplications = adminService.getAllLoanApplications();
@@ -38,9 +57,96 @@ public class AdminController {
         return ResponseEntity.ok(loanApplication);
     }
 
+    /**
+     * Scheduled principal and interest inflows (in cents) per month across all
+     * approved and funded loans, starting at {@code startMonth} (default: this month).
+     */
+    @GetMapping("/portfolio/cash-flows")
+    public ResponseEntity<?> projectPortfolioCashFlows(@RequestParam(required = false) YearMonth startMonth,
+                                                       @RequestParam(defaultValue = "360") int months) {
+        try {
+            YearMonth start = startMonth != null ? startMonth : YearMonth.now();
+            return ResponseEntity.ok(portfolioProjectionService.projectCashFlows(start, months));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Expected loss and loss/cash-flow percentiles (in cents) for the loans
+     * outstanding this month. Pass the returned seed to reproduce a run.
+     */
+    @GetMapping("/portfolio/risk-simulation")
+    public ResponseEntity<?> simulatePortfolioRisk(@RequestParam(defaultValue = "1000") int paths,
+                                                   @RequestParam(required = false) Long seed) {
+        try {
+            long runSeed = seed != null ? seed : System.nanoTime();
+            return ResponseEntity.ok(portfolioRiskSimulationService.simulate(YearMonth.now(), paths, runSeed));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Start re-pricing the portfolio under the given rate shocks (basis
+     * points, default +100/+200/+300). Poll the returned job for results.
+     */
+    @PostMapping("/portfolio/rate-shocks")
+    public ResponseEntity<?> startRateShockJob(@RequestParam(required = false) List<Integer> shocksBp) {
+        try {
+            List<Integer> shocks = shocksBp != null ? shocksBp : RateShockRepricingService.DEFAULT_SHOCKS_BP;
+            return ResponseEntity.accepted().body(rateShockRepricingService.start(shocks));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/portfolio/rate-shocks/{jobId}")
+    public ResponseEntity<?> getRateShockJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(rateShockRepricingService.getReport(jobId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Continue a failed or cancelled job from its last checkpoint.
+     */
+    @PostMapping("/portfolio/rate-shocks/{jobId}/resume")
+    public ResponseEntity<?> resumeRateShockJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.accepted().body(rateShockRepricingService.resume(jobId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/portfolio/rate-shocks/{jobId}/cancel")
+    public ResponseEntity<?> cancelRateShockJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(rateShockRepricingService.cancel(jobId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/users")
     public ResponseEntity<List<User>> getAllUsers() {
         List<User> users = adminService.getAllUsers();
         return ResponseEntity.ok(users);
     }
+
+    /**
+     * Re-read a user's account and roles on their next request to this node
+     * instead of trusting the claims in tokens they already hold. Other nodes
+     * reload them within the principal cache time-to-live.
+     */
+    @PostMapping("/users/{id}/invalidate-principal")
+    public ResponseEntity<Void> invalidateUserPrincipal(@PathVariable Long id) {
+        principalCache.invalidate(id);
+        return ResponseEntity.noContent().build();
+    }
 }
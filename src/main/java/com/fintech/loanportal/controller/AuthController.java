@@ -3,6 +3,7 @@ package com.fintech.loanportal.controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +20,7 @@ import com.fintech.loanportal.dto.LoginRequest;
 import com.fintech.loanportal.dto.RegisterRequest;
 import com.fintech.loanportal.entity.User;
 import com.fintech.loanportal.security.JwtTokenProvider;
+import com.fintech.loanportal.security.PasswordHashingRejectedException;
 import com.fintech.loanportal.service.AuditService;
 import com.fintech.loanportal.service.UserService;
 
@@ -28,6 +30,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Endpoints for user authentication and registration")
@@ -50,6 +54,7 @@ public class AuthController {
     @Operation(summary = "User Login", description = "Authenticates a user and returns a JWT token.")
     @ApiResponse(responseCode = "200", description = "Login successful")
     @ApiResponse(responseCode = "401", description = "Invalid credentials")
+    @ApiResponse(responseCode = "503", description = "Too many logins in progress")
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
@@ -65,8 +70,11 @@ public class AuthController {
             
             User user = userService.getUserByEmail(loginRequest.getEmail());
             auditService.logEvent("USER_LOGIN_SUCCESS", "User logged in successfully: " + user.getEmail(), user.getId(), request);
+            upgradePasswordHash(user, loginRequest.getPassword(), request);
 
             return ResponseEntity.ok(new JwtAuthenticationResponse(jwt));
+        } catch (PasswordHashingRejectedException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             auditService.logEvent("USER_LOGIN_FAILURE", "Failed login attempt for email: " + loginRequest.getEmail(), null, request);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
@@ -76,15 +84,42 @@ public class AuthController {
     @Operation(summary = "User Registration", description = "Registers a new user.")
     @ApiResponse(responseCode = "201", description = "User registered successfully")
     @ApiResponse(responseCode = "400", description = "User already exists")
+    @ApiResponse(responseCode = "503", description = "Too many registrations in progress")
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest, HttpServletRequest request) {
         if (userService.existsByEmail(registerRequest.getEmail())) {
             return new ResponseEntity<>("Email address already in use!", HttpStatus.BAD_REQUEST);
         }
 
-        User user = userService.registerUser(registerRequest);
+        User user;
+        try {
+            user = userService.registerUser(registerRequest);
+        } catch (PasswordHashingRejectedException e) {
+            return serviceUnavailable(e);
+        }
         auditService.logEvent("USER_REGISTRATION_SUCCESS", "New user registered: " + user.getEmail(), user.getId(), request);
 
         return new ResponseEntity<>("User registered successfully", HttpStatus.CREATED);
     }
+
+    /**
+     * Bring the stored hash up to the current cost and algorithm. A failure
+     * here never fails the login; the hash is retried at the next one.
+     */
+    private void upgradePasswordHash(User user, String rawPassword, HttpServletRequest request) {
+        try {
+            if (userService.upgradePasswordHash(user, rawPassword)) {
+                auditService.logEvent("USER_PASSWORD_REHASHED", "Password hash upgraded for: " + user.getEmail(), user.getId(), request);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<?> serviceUnavailable(PasswordHashingRejectedException e) {
+        logger.warn("Password hashing queue full: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", e.getMessage()));
+    }
 }
\ No newline at end of file
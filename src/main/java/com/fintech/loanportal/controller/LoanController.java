@@ -1,44 +1,178 @@
 package com.fintech.loanportal.controller;
 
+import com.fintech.loanportal.dto.AffordabilitySurfaceRequest;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.AmortizationSchedulePage;
 import com.fintech.loanportal.dto.LoanCalculationRequest;
 import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.PaymentGridRequest;
+import com.fintech.loanportal.dto.PrepaymentSimulationRequest;
 import com.fintech.loanportal.dto.LoanApplicationRequest;
 import com.fintech.loanportal.entity.LoanApplication;
 import com.fintech.loanportal.entity.User;
 import com.fintech.loanportal.security.CurrentUser;
 import com.fintech.loanportal.security.UserPrincipal;
+import com.fintech.loanportal.service.AmortizationEngine;
+import com.fintech.loanportal.service.LoanBatchCalculationService;
+import com.fintech.loanportal.service.LoanBatchValidationException;
+import com.fintech.loanportal.service.LoanCalculationCoalescer;
 import com.fintech.loanportal.service.LoanCalculationService;
 import com.fintech.loanportal.service.LoanApplicationService;
+import com.fintech.loanportal.service.PrepaymentSimulationService;
 import com.fintech.loanportal.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/loans")
 @Tag(name = "Loan Management", description = "Endpoints for loan calculation and applications")
 public class LoanController {
 
+    static final String ENGINE_HEADER = "X-Calculation-Engine";
+
     @Autowired
     private LoanCalculationService loanCalculationService;
 
+    @Autowired
+    private LoanCalculationCoalescer loanCalculationCoalescer;
+
+    @Autowired
+    private LoanBatchCalculationService loanBatchCalculationService;
+
+    @Autowired
+    private PrepaymentSimulationService prepaymentSimulationService;
+
     @Autowired
     private LoanApplicationService loanApplicationService;
 
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.loan.calculation.engine-header-enabled:false}")
+    private boolean engineHeaderEnabled;
+
+    /**
+     * Calculate a loan with the configured engine. When engine selection by
+     * header is enabled, {@code X-Calculation-Engine} picks another engine for
+     * this request and the shared cache is bypassed.
+     */
     @PostMapping("/calculate")
-    public ResponseEntity<LoanCalculationResult> calculateLoan(@Valid @RequestBody LoanCalculationRequest request) {
-        LoanCalculationResult result = loanCalculationService.calculateLoan(request);
+    public ResponseEntity<LoanCalculationResult> calculateLoan(@Valid @RequestBody LoanCalculationRequest request,
+                                                               @RequestHeader(value = ENGINE_HEADER, required = false) AmortizationEngine engine) {
+        LoanCalculationResult result = engine != null && engineHeaderEnabled
+                ? loanCalculationService.calculateLoan(request, engine)
+                : loanCalculationCoalescer.calculateLoan(request);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Stream the calculation as newline-delimited JSON. The first line is the
+     * loan summary (without a schedule) and every following line is one
+     * schedule row, generated lazily and written straight to the response.
+     */
+    @PostMapping(value = "/calculate/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamLoanCalculation(@Valid @RequestBody LoanCalculationRequest request) {
+        LoanCalculationResult summary = loanCalculationService.calculateLoanSummary(request);
+        Iterator<AmortizationScheduleEntry> rows = loanCalculationService.scheduleIterator(request);
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                writer.writeValue(generator, summary);
+                generator.writeRaw('\n');
+                while (rows.hasNext()) {
+                    writer.writeValue(generator, rows.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Calculate a batch of loans in one request. Results are returned in the
+     * order of the submitted requests; {@code summaryOnly} skips the schedules.
+     */
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<?> calculateBatch(@RequestBody List<LoanCalculationRequest> requests,
+                                            @RequestParam(defaultValue = "false") boolean summaryOnly) {
+        try {
+            List<LoanCalculationResult> results = loanBatchCalculationService.calculateBatch(requests, summaryOnly);
+            return ResponseEntity.ok(results);
+        } catch (LoanBatchValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Monthly payment and total interest (in cents) for one principal across
+     * a grid of rates and terms, indexed [rate][term] in request order.
+     */
+    @PostMapping("/calculate/grid")
+    public ResponseEntity<?> calculatePaymentGrid(@Valid @RequestBody PaymentGridRequest request) {
+        try {
+            return ResponseEntity.ok(loanCalculationService.calculatePaymentGrid(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Maximum affordable principal (in cents) for every current loan type,
+     * term and DTI cap, indexed [dti][loan type][term].
+     */
+    @PostMapping("/calculate/affordability")
+    public ResponseEntity<?> calculateAffordabilitySurface(@Valid @RequestBody AffordabilitySurfaceRequest request) {
+        try {
+            return ResponseEntity.ok(loanCalculationService.calculateAffordabilitySurface(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Payoff date and interest saved for each set of extra payments, compared
+     * with the loan's regular schedule.
+     */
+    @PostMapping("/calculate/prepayment")
+    public ResponseEntity<?> simulatePrepayments(@Valid @RequestBody PrepaymentSimulationRequest request) {
+        try {
+            return ResponseEntity.ok(prepaymentSimulationService.simulate(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/calculate/schedule")
+    public ResponseEntity<AmortizationSchedulePage> getSchedulePage(@Valid @RequestBody LoanCalculationRequest request,
+                                                                    @RequestParam(defaultValue = "0") int offset,
+                                                                    @RequestParam(defaultValue = "12") int limit) {
+        AmortizationSchedulePage page = loanCalculationService.getSchedulePage(request, offset, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @PostMapping("/apply")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<LoanApplication> applyForLoan(@Valid @RequestBody LoanApplicationRequest request, @CurrentUser UserPrincipal currentUser) {
@@ -0,0 +1,68 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Maximum affordable principal for every loan type, term and DTI cap.
+ * Cells are indexed [dti][loan type][term] and hold cents.
+ */
+public class AffordabilitySurface {
+
+    private List<String> loanTypes;
+    private List<BigDecimal> interestRates;
+    private int[] termMonths;
+    private List<BigDecimal> debtToIncomeRatios;
+    private long[][][] maxLoanAmountCents;
+
+    public AffordabilitySurface(List<String> loanTypes, List<BigDecimal> interestRates, int[] termMonths,
+                                List<BigDecimal> debtToIncomeRatios, long[][][] maxLoanAmountCents) {
+        this.loanTypes = loanTypes;
+        this.interestRates = interestRates;
+        this.termMonths = termMonths;
+        this.debtToIncomeRatios = debtToIncomeRatios;
+        this.maxLoanAmountCents = maxLoanAmountCents;
+    }
+
+    public AffordabilitySurface() {}
+
+    public List<String> getLoanTypes() {
+        return loanTypes;
+    }
+
+    public void setLoanTypes(List<String> loanTypes) {
+        this.loanTypes = loanTypes;
+    }
+
+    public List<BigDecimal> getInterestRates() {
+        return interestRates;
+    }
+
+    public void setInterestRates(List<BigDecimal> interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    public int[] getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(int[] termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public List<BigDecimal> getDebtToIncomeRatios() {
+        return debtToIncomeRatios;
+    }
+
+    public void setDebtToIncomeRatios(List<BigDecimal> debtToIncomeRatios) {
+        this.debtToIncomeRatios = debtToIncomeRatios;
+    }
+
+    public long[][][] getMaxLoanAmountCents() {
+        return maxLoanAmountCents;
+    }
+
+    public void setMaxLoanAmountCents(long[][][] maxLoanAmountCents) {
+        this.maxLoanAmountCents = maxLoanAmountCents;
+    }
+}
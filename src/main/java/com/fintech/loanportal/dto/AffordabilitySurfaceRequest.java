@@ -0,0 +1,54 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public class AffordabilitySurfaceRequest {
+
+    @NotNull
+    @DecimalMin("0.01")
+    private BigDecimal monthlyIncome;
+
+    private BigDecimal existingDebt;
+
+    // Optional; defaults to the standard loan terms
+    private List<Integer> termMonths;
+
+    // Optional; defaults to the standard DTI caps
+    private List<BigDecimal> debtToIncomeRatios;
+
+    public BigDecimal getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    public void setMonthlyIncome(BigDecimal monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+
+    public BigDecimal getExistingDebt() {
+        return existingDebt;
+    }
+
+    public void setExistingDebt(BigDecimal existingDebt) {
+        this.existingDebt = existingDebt;
+    }
+
+    public List<Integer> getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(List<Integer> termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public List<BigDecimal> getDebtToIncomeRatios() {
+        return debtToIncomeRatios;
+    }
+
+    public void setDebtToIncomeRatios(List<BigDecimal> debtToIncomeRatios) {
+        this.debtToIncomeRatios = debtToIncomeRatios;
+    }
+}
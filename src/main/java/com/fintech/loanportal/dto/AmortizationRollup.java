@@ -0,0 +1,108 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totals for one quarter or year of an amortization schedule.
+ */
+public class AmortizationRollup {
+
+    private int period;
+    private int firstPaymentNumber;
+    private int lastPaymentNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalPayments;
+    private BigDecimal principal;
+    private BigDecimal interest;
+    private BigDecimal endingBalance;
+
+    public AmortizationRollup(int period, int firstPaymentNumber, int lastPaymentNumber, LocalDate startDate,
+                              LocalDate endDate, BigDecimal totalPayments, BigDecimal principal, BigDecimal interest,
+                              BigDecimal endingBalance) {
+        this.period = period;
+        this.firstPaymentNumber = firstPaymentNumber;
+        this.lastPaymentNumber = lastPaymentNumber;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalPayments = totalPayments;
+        this.principal = principal;
+        this.interest = interest;
+        this.endingBalance = endingBalance;
+    }
+
+    public AmortizationRollup() {}
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(int period) {
+        this.period = period;
+    }
+
+    public int getFirstPaymentNumber() {
+        return firstPaymentNumber;
+    }
+
+    public void setFirstPaymentNumber(int firstPaymentNumber) {
+        this.firstPaymentNumber = firstPaymentNumber;
+    }
+
+    public int getLastPaymentNumber() {
+        return lastPaymentNumber;
+    }
+
+    public void setLastPaymentNumber(int lastPaymentNumber) {
+        this.lastPaymentNumber = lastPaymentNumber;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public BigDecimal getTotalPayments() {
+        return totalPayments;
+    }
+
+    public void setTotalPayments(BigDecimal totalPayments) {
+        this.totalPayments = totalPayments;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public void setPrincipal(BigDecimal principal) {
+        this.principal = principal;
+    }
+
+    public BigDecimal getInterest() {
+        return interest;
+    }
+
+    public void setInterest(BigDecimal interest) {
+        this.interest = interest;
+    }
+
+    public BigDecimal getEndingBalance() {
+        return endingBalance;
+    }
+
+    public void setEndingBalance(BigDecimal endingBalance) {
+        this.endingBalance = endingBalance;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class AmortizationSchedulePage {
+
+    private int offset;
+    private int limit;
+    private int totalEntries;
+    private BigDecimal monthlyPayment;
+    private List<AmortizationScheduleEntry> entries;
+
+    public AmortizationSchedulePage(int offset, int limit, int totalEntries, BigDecimal monthlyPayment,
+                                    List<AmortizationScheduleEntry> entries) {
+        this.offset = offset;
+        this.limit = limit;
+        this.totalEntries = totalEntries;
+        this.monthlyPayment = monthlyPayment;
+        this.entries = entries;
+    }
+
+    public AmortizationSchedulePage() {}
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getTotalEntries() {
+        return totalEntries;
+    }
+
+    public void setTotalEntries(int totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+
+    public BigDecimal getMonthlyPayment() {
+        return monthlyPayment;
+    }
+
+    public void setMonthlyPayment(BigDecimal monthlyPayment) {
+        this.monthlyPayment = monthlyPayment;
+    }
+
+    public List<AmortizationScheduleEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<AmortizationScheduleEntry> entries) {
+        this.entries = entries;
+    }
+
+    public boolean isHasMore() {
+        return offset + entries.size() < totalEntries;
+    }
+}
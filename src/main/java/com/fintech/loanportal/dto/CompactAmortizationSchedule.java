@@ -0,0 +1,261 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Amortization schedule stored as parallel primitive arrays.
+ *
+ * Amounts are whole cents in {@code long[]} columns and payment dates are
+ * epoch days in an {@code int[]}, so a row costs 44 bytes instead of an
+ * {@link AmortizationScheduleEntry} with its BigDecimals and LocalDate. Rows are
+ * numbered consecutively from {@code firstPaymentNumber}.
+ *
+ * {@link #asList()} exposes the schedule as a read-only list of entries that
+ * are created on access, for callers and serializers that expect the DTO form.
+ */
+public class CompactAmortizationSchedule {
+
+    private final int firstPaymentNumber;
+    private final long[] paymentCents;
+    private final long[] principalCents;
+    private final long[] interestCents;
+    private final long[] remainingBalanceCents;
+    private final long[] cumulativeInterestCents;
+    private final int[] paymentEpochDays;
+    private int size;
+
+    public CompactAmortizationSchedule(int capacity) {
+        this(1, capacity);
+    }
+
+    public CompactAmortizationSchedule(int firstPaymentNumber, int capacity) {
+        this.firstPaymentNumber = firstPaymentNumber;
+        this.paymentCents = new long[capacity];
+        this.principalCents = new long[capacity];
+        this.interestCents = new long[capacity];
+        this.remainingBalanceCents = new long[capacity];
+        this.cumulativeInterestCents = new long[capacity];
+        this.paymentEpochDays = new int[capacity];
+    }
+
+    /**
+     * Append the next row. Capacity is fixed at construction.
+     */
+    public void add(long payment, long principal, long interest, long remainingBalance, long cumulativeInterest,
+                    LocalDate paymentDate) {
+        if (size == paymentCents.length) {
+            throw new IllegalStateException("Schedule capacity of " + paymentCents.length + " rows exceeded");
+        }
+        paymentCents[size] = payment;
+        principalCents[size] = principal;
+        interestCents[size] = interest;
+        remainingBalanceCents[size] = remainingBalance;
+        cumulativeInterestCents[size] = cumulativeInterest;
+        paymentEpochDays[size] = Math.toIntExact(paymentDate.toEpochDay());
+        size++;
+    }
+
+    /**
+     * Convert a schedule whose amounts are all whole cents.
+     *
+     * @return the compact form, or null if any amount has sub-cent digits or a
+     *         row is missing a value
+     */
+    public static CompactAmortizationSchedule fromEntries(List<AmortizationScheduleEntry> entries) {
+        if (entries.isEmpty()) {
+            return new CompactAmortizationSchedule(0);
+        }
+        int first = entries.get(0).getPaymentNumber();
+        CompactAmortizationSchedule schedule = new CompactAmortizationSchedule(first, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            AmortizationScheduleEntry entry = entries.get(i);
+            if (entry.getPaymentNumber() != first + i || entry.getPaymentDate() == null) {
+                return null;
+            }
+            long payment = toCents(entry.getPaymentAmount());
+            long principal = toCents(entry.getPrincipal());
+            long interest = toCents(entry.getInterest());
+            long balance = toCents(entry.getRemainingBalance());
+            long cumulative = toCents(entry.getCumulativeInterest());
+            if (payment == Long.MIN_VALUE || principal == Long.MIN_VALUE || interest == Long.MIN_VALUE
+                    || balance == Long.MIN_VALUE || cumulative == Long.MIN_VALUE) {
+                return null;
+            }
+            schedule.add(payment, principal, interest, balance, cumulative, entry.getPaymentDate());
+        }
+        return schedule;
+    }
+
+    /**
+     * The schedule backing a list returned by {@link #asList()}, or null if
+     * the list is not such a view.
+     */
+    public static CompactAmortizationSchedule viewedBy(List<?> list) {
+        return list instanceof CompactAmortizationSchedule.RowView view ? view.schedule() : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getFirstPaymentNumber() {
+        return firstPaymentNumber;
+    }
+
+    public long getPaymentCents(int row) {
+        return paymentCents[checkRow(row)];
+    }
+
+    public long getPrincipalCents(int row) {
+        return principalCents[checkRow(row)];
+    }
+
+    public long getInterestCents(int row) {
+        return interestCents[checkRow(row)];
+    }
+
+    public long getRemainingBalanceCents(int row) {
+        return remainingBalanceCents[checkRow(row)];
+    }
+
+    public long getCumulativeInterestCents(int row) {
+        return cumulativeInterestCents[checkRow(row)];
+    }
+
+    public int getPaymentEpochDay(int row) {
+        return paymentEpochDays[checkRow(row)];
+    }
+
+    public LocalDate getPaymentDate(int row) {
+        return LocalDate.ofEpochDay(paymentEpochDays[checkRow(row)]);
+    }
+
+    /**
+     * Materialize one row as a DTO.
+     */
+    public AmortizationScheduleEntry getEntry(int row) {
+        checkRow(row);
+        return AmortizationScheduleEntry.builder()
+            .paymentNumber(firstPaymentNumber + row)
+            .paymentDate(LocalDate.ofEpochDay(paymentEpochDays[row]))
+            .paymentAmount(BigDecimal.valueOf(paymentCents[row], 2))
+            .principalPayment(BigDecimal.valueOf(principalCents[row], 2))
+            .interestPayment(BigDecimal.valueOf(interestCents[row], 2))
+            .remainingBalance(BigDecimal.valueOf(remainingBalanceCents[row], 2))
+            .cumulativeInterest(BigDecimal.valueOf(cumulativeInterestCents[row], 2))
+            .build();
+    }
+
+    /**
+     * Read-only list view; each {@code get} builds a fresh entry.
+     */
+    public List<AmortizationScheduleEntry> asList() {
+        return new RowView();
+    }
+
+    /**
+     * Drop unused capacity once the schedule is complete.
+     */
+    public CompactAmortizationSchedule trimmed() {
+        if (size == paymentCents.length) {
+            return this;
+        }
+        CompactAmortizationSchedule copy = new CompactAmortizationSchedule(firstPaymentNumber, size);
+        System.arraycopy(paymentCents, 0, copy.paymentCents, 0, size);
+        System.arraycopy(principalCents, 0, copy.principalCents, 0, size);
+        System.arraycopy(interestCents, 0, copy.interestCents, 0, size);
+        System.arraycopy(remainingBalanceCents, 0, copy.remainingBalanceCents, 0, size);
+        System.arraycopy(cumulativeInterestCents, 0, copy.cumulativeInterestCents, 0, size);
+        System.arraycopy(paymentEpochDays, 0, copy.paymentEpochDays, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Copy the first {@code rows} rows into a new schedule that can grow to
+     * {@code capacity} rows, so a recomputed tail can be appended.
+     */
+    public CompactAmortizationSchedule copyPrefix(int rows, int capacity) {
+        if (rows < 0 || rows > size || capacity < rows) {
+            throw new IllegalArgumentException("Cannot copy " + rows + " rows into capacity " + capacity);
+        }
+        CompactAmortizationSchedule copy = new CompactAmortizationSchedule(firstPaymentNumber, capacity);
+        System.arraycopy(paymentCents, 0, copy.paymentCents, 0, rows);
+        System.arraycopy(principalCents, 0, copy.principalCents, 0, rows);
+        System.arraycopy(interestCents, 0, copy.interestCents, 0, rows);
+        System.arraycopy(remainingBalanceCents, 0, copy.remainingBalanceCents, 0, rows);
+        System.arraycopy(cumulativeInterestCents, 0, copy.cumulativeInterestCents, 0, rows);
+        System.arraycopy(paymentEpochDays, 0, copy.paymentEpochDays, 0, rows);
+        copy.size = rows;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactAmortizationSchedule other) || size != other.size
+                || firstPaymentNumber != other.firstPaymentNumber) {
+            return false;
+        }
+        return Arrays.equals(paymentCents, 0, size, other.paymentCents, 0, size)
+            && Arrays.equals(principalCents, 0, size, other.principalCents, 0, size)
+            && Arrays.equals(interestCents, 0, size, other.interestCents, 0, size)
+            && Arrays.equals(remainingBalanceCents, 0, size, other.remainingBalanceCents, 0, size)
+            && Arrays.equals(cumulativeInterestCents, 0, size, other.cumulativeInterestCents, 0, size)
+            && Arrays.equals(paymentEpochDays, 0, size, other.paymentEpochDays, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * firstPaymentNumber + size;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(remainingBalanceCents[i]);
+        }
+        return hash;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range for schedule of " + size);
+        }
+        return row;
+    }
+
+    /**
+     * Whole cents of the amount, or Long.MIN_VALUE if it is null or has sub-cent digits.
+     */
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private final class RowView extends AbstractList<AmortizationScheduleEntry> implements RandomAccess {
+
+        @Override
+        public AmortizationScheduleEntry get(int index) {
+            return getEntry(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        CompactAmortizationSchedule schedule() {
+            return CompactAmortizationSchedule.this;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fintech.loanportal.dto;
 
 import java.math.BigDecimal;
+import java.util.Set;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -17,6 +18,12 @@ public class LoanCalculationRequest {
     private int loanTermMonths;
         private java.time.LocalDate startDate;
 
+    // Optional period totals to compute alongside the schedule
+    private Set<RollupPeriod> rollups;
+
+    // Set to false to return only the roll-ups and totals without monthly rows
+    private boolean includeSchedule = true;
+
     public BigDecimal getLoanAmount() {
         return loanAmount;
     }
@@ -47,4 +54,20 @@ public class LoanCalculationRequest {
     public void setStartDate(java.time.LocalDate startDate) {
         this.startDate = startDate;
     }
+
+    public Set<RollupPeriod> getRollups() {
+        return rollups;
+    }
+
+    public void setRollups(Set<RollupPeriod> rollups) {
+        this.rollups = rollups;
+    }
+
+    public boolean isIncludeSchedule() {
+        return includeSchedule;
+    }
+
+    public void setIncludeSchedule(boolean includeSchedule) {
+        this.includeSchedule = includeSchedule;
+    }
 }
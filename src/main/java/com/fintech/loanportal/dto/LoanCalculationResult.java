@@ -3,6 +3,8 @@ package com.fintech.loanportal.dto;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class LoanCalculationResult {
 
     private BigDecimal monthlyPayment;
@@ -14,6 +16,11 @@ public class LoanCalculationResult {
         private Integer termMonths;
         private BigDecimal totalPayments;
         private java.time.LocalDateTime calculatedAt;
+        // Primitive-array form of the schedule; see getAmortizationSchedule()
+        private CompactAmortizationSchedule compactSchedule;
+        // Period totals, present only when requested
+        private List<AmortizationRollup> yearlyRollups;
+        private List<AmortizationRollup> quarterlyRollups;
 
     public LoanCalculationResult(BigDecimal monthlyPayment, BigDecimal totalInterest, BigDecimal totalAmount, List<AmortizationScheduleEntry> amortizationSchedule) {
         this.monthlyPayment = monthlyPayment;
@@ -47,12 +54,20 @@ public class LoanCalculationResult {
         this.totalAmount = totalAmount;
     }
 
+    /**
+     * The schedule as entries. When the result carries a compact schedule this
+     * is a read-only view over it, with rows materialized on access.
+     */
     public List<AmortizationScheduleEntry> getAmortizationSchedule() {
+        if (amortizationSchedule == null && compactSchedule != null) {
+            return compactSchedule.asList();
+        }
         return amortizationSchedule;
     }
 
     public void setAmortizationSchedule(List<AmortizationScheduleEntry> amortizationSchedule) {
         this.amortizationSchedule = amortizationSchedule;
+        this.compactSchedule = null;
     }
         public BigDecimal getLoanAmount() {
             return loanAmount;
@@ -84,6 +99,26 @@ public class LoanCalculationResult {
         public void setCalculatedAt(java.time.LocalDateTime calculatedAt) {
             this.calculatedAt = calculatedAt;
         }
+        @JsonIgnore
+        public CompactAmortizationSchedule getCompactSchedule() {
+            return compactSchedule;
+        }
+        public void setCompactSchedule(CompactAmortizationSchedule compactSchedule) {
+            this.compactSchedule = compactSchedule;
+            this.amortizationSchedule = null;
+        }
+        public List<AmortizationRollup> getYearlyRollups() {
+            return yearlyRollups;
+        }
+        public void setYearlyRollups(List<AmortizationRollup> yearlyRollups) {
+            this.yearlyRollups = yearlyRollups;
+        }
+        public List<AmortizationRollup> getQuarterlyRollups() {
+            return quarterlyRollups;
+        }
+        public void setQuarterlyRollups(List<AmortizationRollup> quarterlyRollups) {
+            this.quarterlyRollups = quarterlyRollups;
+        }
         public static Builder builder() {
             return new Builder();
         }
@@ -117,6 +152,18 @@ public class LoanCalculationResult {
                 result.setAmortizationSchedule(amortizationSchedule);
                 return this;
             }
+            public Builder compactSchedule(CompactAmortizationSchedule compactSchedule) {
+                result.setCompactSchedule(compactSchedule);
+                return this;
+            }
+            public Builder yearlyRollups(List<AmortizationRollup> yearlyRollups) {
+                result.setYearlyRollups(yearlyRollups);
+                return this;
+            }
+            public Builder quarterlyRollups(List<AmortizationRollup> quarterlyRollups) {
+                result.setQuarterlyRollups(quarterlyRollups);
+                return this;
+            }
             public Builder calculatedAt(java.time.LocalDateTime calculatedAt) {
                 result.setCalculatedAt(calculatedAt);
                 return this;
@@ -0,0 +1,68 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Monthly payment and total interest for one principal across a set of rates
+ * and terms. Cells are indexed [rate][term] in request order and hold cents.
+ */
+public class PaymentGrid {
+
+    private BigDecimal loanAmount;
+    private List<BigDecimal> interestRates;
+    private int[] termMonths;
+    private long[][] monthlyPaymentCents;
+    private long[][] totalInterestCents;
+
+    public PaymentGrid(BigDecimal loanAmount, List<BigDecimal> interestRates, int[] termMonths,
+                       long[][] monthlyPaymentCents, long[][] totalInterestCents) {
+        this.loanAmount = loanAmount;
+        this.interestRates = interestRates;
+        this.termMonths = termMonths;
+        this.monthlyPaymentCents = monthlyPaymentCents;
+        this.totalInterestCents = totalInterestCents;
+    }
+
+    public PaymentGrid() {}
+
+    public BigDecimal getLoanAmount() {
+        return loanAmount;
+    }
+
+    public void setLoanAmount(BigDecimal loanAmount) {
+        this.loanAmount = loanAmount;
+    }
+
+    public List<BigDecimal> getInterestRates() {
+        return interestRates;
+    }
+
+    public void setInterestRates(List<BigDecimal> interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    public int[] getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(int[] termMonths) {
+        this.termMonths = termMonths;
+    }
+
+    public long[][] getMonthlyPaymentCents() {
+        return monthlyPaymentCents;
+    }
+
+    public void setMonthlyPaymentCents(long[][] monthlyPaymentCents) {
+        this.monthlyPaymentCents = monthlyPaymentCents;
+    }
+
+    public long[][] getTotalInterestCents() {
+        return totalInterestCents;
+    }
+
+    public void setTotalInterestCents(long[][] totalInterestCents) {
+        this.totalInterestCents = totalInterestCents;
+    }
+}
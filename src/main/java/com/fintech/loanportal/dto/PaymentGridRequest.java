@@ -0,0 +1,43 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+
+public class PaymentGridRequest {
+
+    @DecimalMin("1.0")
+    private BigDecimal loanAmount;
+
+    @NotEmpty
+    private List<BigDecimal> interestRates;
+
+    @NotEmpty
+    private List<Integer> termMonths;
+
+    public BigDecimal getLoanAmount() {
+        return loanAmount;
+    }
+
+    public void setLoanAmount(BigDecimal loanAmount) {
+        this.loanAmount = loanAmount;
+    }
+
+    public List<BigDecimal> getInterestRates() {
+        return interestRates;
+    }
+
+    public void setInterestRates(List<BigDecimal> interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    public List<Integer> getTermMonths() {
+        return termMonths;
+    }
+
+    public void setTermMonths(List<Integer> termMonths) {
+        this.termMonths = termMonths;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fintech.loanportal.dto;
+
+import java.time.YearMonth;
+
+/**
+ * Scheduled principal and interest inflows across the loan book, one cell per
+ * month starting at {@code startMonth}. Amounts are in cents.
+ */
+public class PortfolioCashFlowProjection {
+
+    private YearMonth startMonth;
+    private int horizonMonths;
+    private long loanCount;
+    private long[] principalCents;
+    private long[] interestCents;
+    private long totalPrincipalCents;
+    private long totalInterestCents;
+
+    public PortfolioCashFlowProjection(YearMonth startMonth, long loanCount, long[] principalCents,
+                                       long[] interestCents) {
+        this.startMonth = startMonth;
+        this.horizonMonths = principalCents.length;
+        this.loanCount = loanCount;
+        this.principalCents = principalCents;
+        this.interestCents = interestCents;
+        for (int i = 0; i < principalCents.length; i++) {
+            this.totalPrincipalCents += principalCents[i];
+            this.totalInterestCents += interestCents[i];
+        }
+    }
+
+    public PortfolioCashFlowProjection() {}
+
+    public YearMonth getStartMonth() {
+        return startMonth;
+    }
+
+    public void setStartMonth(YearMonth startMonth) {
+        this.startMonth = startMonth;
+    }
+
+    public int getHorizonMonths() {
+        return horizonMonths;
+    }
+
+    public void setHorizonMonths(int horizonMonths) {
+        this.horizonMonths = horizonMonths;
+    }
+
+    public long getLoanCount() {
+        return loanCount;
+    }
+
+    public void setLoanCount(long loanCount) {
+        this.loanCount = loanCount;
+    }
+
+    public long[] getPrincipalCents() {
+        return principalCents;
+    }
+
+    public void setPrincipalCents(long[] principalCents) {
+        this.principalCents = principalCents;
+    }
+
+    public long[] getInterestCents() {
+        return interestCents;
+    }
+
+    public void setInterestCents(long[] interestCents) {
+        this.interestCents = interestCents;
+    }
+
+    public long getTotalPrincipalCents() {
+        return totalPrincipalCents;
+    }
+
+    public void setTotalPrincipalCents(long totalPrincipalCents) {
+        this.totalPrincipalCents = totalPrincipalCents;
+    }
+
+    public long getTotalInterestCents() {
+        return totalInterestCents;
+    }
+
+    public void setTotalInterestCents(long totalInterestCents) {
+        this.totalInterestCents = totalInterestCents;
+    }
+}
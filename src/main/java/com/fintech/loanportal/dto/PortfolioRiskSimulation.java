@@ -0,0 +1,123 @@
+package com.fintech.loanportal.dto;
+
+import java.time.YearMonth;
+
+/**
+ * Stress metrics for the loan book from a Monte Carlo run of defaults and
+ * prepayments. Losses and cash flows are in cents over the remaining life of
+ * the loans outstanding at {@code valuationMonth}; percentiles are across
+ * paths. The same seed and path count reproduce the same figures.
+ */
+public class PortfolioRiskSimulation {
+
+    private YearMonth valuationMonth;
+    private int paths;
+    private long seed;
+    private int loanCount;
+    private long exposureCents;
+    private long expectedLossCents;
+    private long lossP95Cents;
+    private long lossP99Cents;
+    private long expectedCashFlowCents;
+    private long cashFlowP5Cents;
+    private long cashFlowP50Cents;
+    private long cashFlowP95Cents;
+
+    public PortfolioRiskSimulation() {}
+
+    public YearMonth getValuationMonth() {
+        return valuationMonth;
+    }
+
+    public void setValuationMonth(YearMonth valuationMonth) {
+        this.valuationMonth = valuationMonth;
+    }
+
+    public int getPaths() {
+        return paths;
+    }
+
+    public void setPaths(int paths) {
+        this.paths = paths;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    public void setLoanCount(int loanCount) {
+        this.loanCount = loanCount;
+    }
+
+    public long getExposureCents() {
+        return exposureCents;
+    }
+
+    public void setExposureCents(long exposureCents) {
+        this.exposureCents = exposureCents;
+    }
+
+    public long getExpectedLossCents() {
+        return expectedLossCents;
+    }
+
+    public void setExpectedLossCents(long expectedLossCents) {
+        this.expectedLossCents = expectedLossCents;
+    }
+
+    public long getLossP95Cents() {
+        return lossP95Cents;
+    }
+
+    public void setLossP95Cents(long lossP95Cents) {
+        this.lossP95Cents = lossP95Cents;
+    }
+
+    public long getLossP99Cents() {
+        return lossP99Cents;
+    }
+
+    public void setLossP99Cents(long lossP99Cents) {
+        this.lossP99Cents = lossP99Cents;
+    }
+
+    public long getExpectedCashFlowCents() {
+        return expectedCashFlowCents;
+    }
+
+    public void setExpectedCashFlowCents(long expectedCashFlowCents) {
+        this.expectedCashFlowCents = expectedCashFlowCents;
+    }
+
+    public long getCashFlowP5Cents() {
+        return cashFlowP5Cents;
+    }
+
+    public void setCashFlowP5Cents(long cashFlowP5Cents) {
+        this.cashFlowP5Cents = cashFlowP5Cents;
+    }
+
+    public long getCashFlowP50Cents() {
+        return cashFlowP50Cents;
+    }
+
+    public void setCashFlowP50Cents(long cashFlowP50Cents) {
+        this.cashFlowP50Cents = cashFlowP50Cents;
+    }
+
+    public long getCashFlowP95Cents() {
+        return cashFlowP95Cents;
+    }
+
+    public void setCashFlowP95Cents(long cashFlowP95Cents) {
+        this.cashFlowP95Cents = cashFlowP95Cents;
+    }
+}
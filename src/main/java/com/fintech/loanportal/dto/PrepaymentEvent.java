@@ -0,0 +1,55 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An extra principal payment made together with the scheduled payment
+ * {@code paymentNumber}. A recurring event repeats every month from then on.
+ */
+public class PrepaymentEvent {
+
+    @Min(1)
+    private int paymentNumber;
+
+    @NotNull
+    @DecimalMin("0.01")
+    private BigDecimal amount;
+
+    private boolean recurring;
+
+    public PrepaymentEvent(int paymentNumber, BigDecimal amount, boolean recurring) {
+        this.paymentNumber = paymentNumber;
+        this.amount = amount;
+        this.recurring = recurring;
+    }
+
+    public PrepaymentEvent() {}
+
+    public int getPaymentNumber() {
+        return paymentNumber;
+    }
+
+    public void setPaymentNumber(int paymentNumber) {
+        this.paymentNumber = paymentNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public boolean isRecurring() {
+        return recurring;
+    }
+
+    public void setRecurring(boolean recurring) {
+        this.recurring = recurring;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintech.loanportal.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+public class PrepaymentScenario {
+
+    // Optional label echoed back in the result
+    private String name;
+
+    @Valid
+    @NotEmpty
+    private List<PrepaymentEvent> events;
+
+    public PrepaymentScenario(String name, List<PrepaymentEvent> events) {
+        this.name = name;
+        this.events = events;
+    }
+
+    public PrepaymentScenario() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<PrepaymentEvent> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<PrepaymentEvent> events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,99 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outcome of one prepayment scenario compared with the base schedule.
+ */
+public class PrepaymentScenarioResult {
+
+    private String name;
+    private int payoffPaymentNumber;
+    private LocalDate payoffDate;
+    private int monthsSaved;
+    private BigDecimal totalExtraPayments;
+    private BigDecimal totalInterest;
+    private BigDecimal interestSaved;
+    private List<AmortizationScheduleEntry> amortizationSchedule;
+
+    public PrepaymentScenarioResult(String name, int payoffPaymentNumber, LocalDate payoffDate, int monthsSaved,
+                                    BigDecimal totalExtraPayments, BigDecimal totalInterest, BigDecimal interestSaved,
+                                    List<AmortizationScheduleEntry> amortizationSchedule) {
+        this.name = name;
+        this.payoffPaymentNumber = payoffPaymentNumber;
+        this.payoffDate = payoffDate;
+        this.monthsSaved = monthsSaved;
+        this.totalExtraPayments = totalExtraPayments;
+        this.totalInterest = totalInterest;
+        this.interestSaved = interestSaved;
+        this.amortizationSchedule = amortizationSchedule;
+    }
+
+    public PrepaymentScenarioResult() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getPayoffPaymentNumber() {
+        return payoffPaymentNumber;
+    }
+
+    public void setPayoffPaymentNumber(int payoffPaymentNumber) {
+        this.payoffPaymentNumber = payoffPaymentNumber;
+    }
+
+    public LocalDate getPayoffDate() {
+        return payoffDate;
+    }
+
+    public void setPayoffDate(LocalDate payoffDate) {
+        this.payoffDate = payoffDate;
+    }
+
+    public int getMonthsSaved() {
+        return monthsSaved;
+    }
+
+    public void setMonthsSaved(int monthsSaved) {
+        this.monthsSaved = monthsSaved;
+    }
+
+    public BigDecimal getTotalExtraPayments() {
+        return totalExtraPayments;
+    }
+
+    public void setTotalExtraPayments(BigDecimal totalExtraPayments) {
+        this.totalExtraPayments = totalExtraPayments;
+    }
+
+    public BigDecimal getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(BigDecimal totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public BigDecimal getInterestSaved() {
+        return interestSaved;
+    }
+
+    public void setInterestSaved(BigDecimal interestSaved) {
+        this.interestSaved = interestSaved;
+    }
+
+    public List<AmortizationScheduleEntry> getAmortizationSchedule() {
+        return amortizationSchedule;
+    }
+
+    public void setAmortizationSchedule(List<AmortizationScheduleEntry> amortizationSchedule) {
+        this.amortizationSchedule = amortizationSchedule;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fintech.loanportal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Base loan figures plus one result per prepayment scenario, in request order.
+ */
+public class PrepaymentSimulation {
+
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalInterest;
+    private int payoffPaymentNumber;
+    private LocalDate payoffDate;
+    private List<PrepaymentScenarioResult> scenarios;
+
+    public PrepaymentSimulation(BigDecimal monthlyPayment, BigDecimal totalInterest, int payoffPaymentNumber,
+                                LocalDate payoffDate, List<PrepaymentScenarioResult> scenarios) {
+        this.monthlyPayment = monthlyPayment;
+        this.totalInterest = totalInterest;
+        this.payoffPaymentNumber = payoffPaymentNumber;
+        this.payoffDate = payoffDate;
+        this.scenarios = scenarios;
+    }
+
+    public PrepaymentSimulation() {}
+
+    public BigDecimal getMonthlyPayment() {
+        return monthlyPayment;
+    }
+
+    public void setMonthlyPayment(BigDecimal monthlyPayment) {
+        this.monthlyPayment = monthlyPayment;
+    }
+
+    public BigDecimal getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(BigDecimal totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public int getPayoffPaymentNumber() {
+        return payoffPaymentNumber;
+    }
+
+    public void setPayoffPaymentNumber(int payoffPaymentNumber) {
+        this.payoffPaymentNumber = payoffPaymentNumber;
+    }
+
+    public LocalDate getPayoffDate() {
+        return payoffDate;
+    }
+
+    public void setPayoffDate(LocalDate payoffDate) {
+        this.payoffDate = payoffDate;
+    }
+
+    public List<PrepaymentScenarioResult> getScenarios() {
+        return scenarios;
+    }
+
+    public void setScenarios(List<PrepaymentScenarioResult> scenarios) {
+        this.scenarios = scenarios;
+    }
+}
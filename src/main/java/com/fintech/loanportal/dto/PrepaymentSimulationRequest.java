@@ -0,0 +1,45 @@
+package com.fintech.loanportal.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public class PrepaymentSimulationRequest {
+
+    @Valid
+    @NotNull
+    private LoanCalculationRequest loan;
+
+    @Valid
+    @NotEmpty
+    private List<PrepaymentScenario> scenarios;
+
+    // When true, each scenario result carries its full amortization schedule
+    private boolean includeSchedule;
+
+    public LoanCalculationRequest getLoan() {
+        return loan;
+    }
+
+    public void setLoan(LoanCalculationRequest loan) {
+        this.loan = loan;
+    }
+
+    public List<PrepaymentScenario> getScenarios() {
+        return scenarios;
+    }
+
+    public void setScenarios(List<PrepaymentScenario> scenarios) {
+        this.scenarios = scenarios;
+    }
+
+    public boolean isIncludeSchedule() {
+        return includeSchedule;
+    }
+
+    public void setIncludeSchedule(boolean includeSchedule) {
+        this.includeSchedule = includeSchedule;
+    }
+}
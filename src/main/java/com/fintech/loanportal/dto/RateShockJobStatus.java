@@ -0,0 +1,12 @@
+package com.fintech.loanportal.dto;
+
+/**
+ * Lifecycle of a rate-shock re-pricing job. FAILED and CANCELLED jobs keep
+ * their checkpoint and can be resumed.
+ */
+public enum RateShockJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
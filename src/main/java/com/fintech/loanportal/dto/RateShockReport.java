@@ -0,0 +1,77 @@
+package com.fintech.loanportal.dto;
+
+import java.util.List;
+
+/**
+ * Progress and results of a rate-shock re-pricing job. Segments hold the
+ * totals so far; {@code lastLoanId} is the checkpoint a resumed job continues
+ * from.
+ */
+public class RateShockReport {
+
+    private String jobId;
+    private RateShockJobStatus status;
+    private int[] shocksBp;
+    private long loansProcessed;
+    private long lastLoanId;
+    private String failure;
+    private List<RateShockSegment> segments;
+
+    public RateShockReport() {}
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public RateShockJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RateShockJobStatus status) {
+        this.status = status;
+    }
+
+    public int[] getShocksBp() {
+        return shocksBp;
+    }
+
+    public void setShocksBp(int[] shocksBp) {
+        this.shocksBp = shocksBp;
+    }
+
+    public long getLoansProcessed() {
+        return loansProcessed;
+    }
+
+    public void setLoansProcessed(long loansProcessed) {
+        this.loansProcessed = loansProcessed;
+    }
+
+    public long getLastLoanId() {
+        return lastLoanId;
+    }
+
+    public void setLastLoanId(long lastLoanId) {
+        this.lastLoanId = lastLoanId;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+
+    public List<RateShockSegment> getSegments() {
+        return segments;
+    }
+
+    public void setSegments(List<RateShockSegment> segments) {
+        this.segments = segments;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fintech.loanportal.dto;
+
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+
+/**
+ * Re-priced totals for one loan type, in cents. Index 0 of each array is the
+ * loans' current rates and index i is the i-th shock of the report.
+ */
+public class RateShockSegment {
+
+    private LoanType loanType;
+    private long loanCount;
+    private long principalCents;
+    private long[] monthlyPaymentCents;
+    private long[] totalInterestCents;
+
+    public RateShockSegment(LoanType loanType, long loanCount, long principalCents, long[] monthlyPaymentCents,
+                            long[] totalInterestCents) {
+        this.loanType = loanType;
+        this.loanCount = loanCount;
+        this.principalCents = principalCents;
+        this.monthlyPaymentCents = monthlyPaymentCents;
+        this.totalInterestCents = totalInterestCents;
+    }
+
+    public RateShockSegment() {}
+
+    public LoanType getLoanType() {
+        return loanType;
+    }
+
+    public void setLoanType(LoanType loanType) {
+        this.loanType = loanType;
+    }
+
+    public long getLoanCount() {
+        return loanCount;
+    }
+
+    public void setLoanCount(long loanCount) {
+        this.loanCount = loanCount;
+    }
+
+    public long getPrincipalCents() {
+        return principalCents;
+    }
+
+    public void setPrincipalCents(long principalCents) {
+        this.principalCents = principalCents;
+    }
+
+    public long[] getMonthlyPaymentCents() {
+        return monthlyPaymentCents;
+    }
+
+    public void setMonthlyPaymentCents(long[] monthlyPaymentCents) {
+        this.monthlyPaymentCents = monthlyPaymentCents;
+    }
+
+    public long[] getTotalInterestCents() {
+        return totalInterestCents;
+    }
+
+    public void setTotalInterestCents(long[] totalInterestCents) {
+        this.totalInterestCents = totalInterestCents;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fintech.loanportal.dto;
+
+/**
+ * Period lengths for amortization roll-ups. Periods are counted from the
+ * first payment, so year 1 covers payments 1-12 whatever the start month.
+ */
+public enum RollupPeriod {
+    QUARTERLY(3),
+    YEARLY(12);
+
+    private final int monthsPerPeriod;
+
+    RollupPeriod(int monthsPerPeriod) {
+        this.monthsPerPeriod = monthsPerPeriod;
+    }
+
+    public int getMonthsPerPeriod() {
+        return monthsPerPeriod;
+    }
+}
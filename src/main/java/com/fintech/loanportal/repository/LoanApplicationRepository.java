@@ -1,13 +1,30 @@
 package com.fintech.loanportal.repository;
 
 import com.fintech.loanportal.entity.LoanApplication;
+import com.fintech.loanportal.entity.LoanApplication.ApplicationStatus;
 import com.fintech.loanportal.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
     List<LoanApplication> findByUser(User user);
+
+    /**
+     * Next chunk of loan terms with an id above {@code afterId}, in id order.
+     * Paging by id keeps every chunk an index range scan however deep the scan
+     * is, and lets a caller resume from the last id it processed.
+     */
+    @Query("select new com.fintech.loanportal.repository.LoanTermsView(a.id, a.loanAmount, a.interestRate, "
+        + "a.loanTermMonths, a.loanType, coalesce(a.approvedAt, a.createdAt), a.riskLevel, a.creditScore, "
+        + "a.debtToIncomeRatio) "
+        + "from LoanApplication a where a.status in :statuses and a.id > :afterId order by a.id")
+    List<LoanTermsView> findLoanTermsAfter(@Param("statuses") Collection<ApplicationStatus> statuses,
+                                           @Param("afterId") long afterId, Pageable pageable);
 }
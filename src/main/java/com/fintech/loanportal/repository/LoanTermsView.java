@@ -0,0 +1,18 @@
+package com.fintech.loanportal.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+import com.fintech.loanportal.entity.LoanApplication.RiskLevel;
+
+/**
+ * The columns of a loan application needed to re-run its schedule and price
+ * its risk, read without loading the entity or its user. {@code originatedAt}
+ * is the approval time, or the creation time for loans approved before that
+ * was recorded. The risk columns are null until the application is assessed.
+ */
+public record LoanTermsView(long id, BigDecimal loanAmount, BigDecimal interestRate, int loanTermMonths,
+                            LoanType loanType, LocalDateTime originatedAt, RiskLevel riskLevel,
+                            Integer creditScore, BigDecimal debtToIncomeRatio) {
+}
@@ -0,0 +1,12 @@
+package com.fintech.loanportal.security;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The claims of an access token whose signature, expiry and type have
+ * already been checked, so callers never need to parse the token again.
+ */
+public record AccessTokenClaims(Long userId, String email, List<String> roles, String tokenType, Date issuedAt,
+                                Date expiration) {
+}
@@ -0,0 +1,152 @@
+package com.fintech.loanportal.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs password hashing and verification on a small dedicated pool instead
+ * of the calling request thread's CPU share.
+ *
+ * A hash is deliberately slow, so a burst of logins or registrations could
+ * otherwise occupy every core and starve the rest of the API. Here at most
+ * {@code threads} hashes run at once and at most {@code queueCapacity} wait.
+ * The caller still blocks until its hash is done, but a call that finds the
+ * queue full fails at once with {@link PasswordHashingRejectedException}.
+ *
+ * Published metrics, tagged by operation (encode or matches):
+ * - password.hash.queue.wait: time from submission until a worker starts
+ * - password.hash.duration: time spent hashing
+ * - password.hash.rejected: calls turned away because the queue was full
+ * - password.hash.queued and password.hash.active gauges
+ */
+public final class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeQueueWait;
+    private final Timer matchesQueueWait;
+    private final Timer encodeDuration;
+    private final Timer matchesDuration;
+    private final Counter encodeRejected;
+    private final Counter matchesRejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Password hashing threads and queue capacity must be positive");
+        }
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), task -> {
+                Thread thread = new Thread(task, "password-hash-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeQueueWait = queueWaitTimer("encode", registry);
+        this.matchesQueueWait = queueWaitTimer("matches", registry);
+        this.encodeDuration = durationTimer("encode", registry);
+        this.matchesDuration = durationTimer("matches", registry);
+        this.encodeRejected = rejectedCounter("encode", registry);
+        this.matchesRejected = rejectedCounter("matches", registry);
+        Gauge.builder("password.hash.queued", executor, pool -> pool.getQueue().size())
+            .description("Password hashes waiting for a worker")
+            .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes in progress")
+            .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeQueueWait, encodeDuration, encodeRejected);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword),
+            matchesQueueWait, matchesDuration, matchesRejected);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stop accepting hashes; work already queued still completes.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> hash, Timer queueWait, Timer duration, Counter rejected) {
+        long submittedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Too many password hashes in progress, try again shortly");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer queueWaitTimer(String operation, MeterRegistry registry) {
+        return Timer.builder("password.hash.queue.wait")
+            .tag("operation", operation)
+            .description("Time a password hash waited for a worker")
+            .register(registry);
+    }
+
+    private static Timer durationTimer(String operation, MeterRegistry registry) {
+        return Timer.builder("password.hash.duration")
+            .tag("operation", operation)
+            .description("Time spent computing a password hash")
+            .register(registry);
+    }
+
+    private static Counter rejectedCounter(String operation, MeterRegistry registry) {
+        return Counter.builder("password.hash.rejected")
+            .tag("operation", operation)
+            .description("Password hashes refused because the queue was full")
+            .register(registry);
+    }
+}
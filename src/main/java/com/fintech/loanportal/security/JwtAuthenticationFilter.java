@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +19,15 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Authenticates requests carrying a bearer access token. The token is verified
+ * and its claims read in one parse. Public endpoints never look at the
+ * principal, so the filter skips them entirely.
+ *
+ * By default the principal is built from the verified claims, and the
+ * {@link PrincipalCache} decides when a user's claims are stale. With
+ * app.security.principal-source=DATABASE every request loads the user instead.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -27,6 +37,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Value("${app.security.principal-source:CLAIMS}")
+    private PrincipalSource principalSource = PrincipalSource.CLAIMS;
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -34,10 +50,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
+            AccessTokenClaims claims = StringUtils.hasText(jwt) ? tokenProvider.parseAccessToken(jwt) : null;
 
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+            if (claims != null) {
+                UserDetails userDetails = principalSource == PrincipalSource.CLAIMS
+                        ? principalCache.resolve(claims)
+                        : customUserDetailsService.loadUserById(claims.userId());
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -50,6 +68,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.MATCHER.matches(request);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,12 +1,15 @@
 package com.fintech.loanportal.security;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -42,12 +46,17 @@ public class JwtTokenProvider {
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
     private final SecretKey jwtSecret;
+
+    // Immutable and thread-safe, so one parser serves every request
+    private final JwtParser jwtParser;
+
+    private VerifiedTokenCache verifiedTokenCache;
     
     @Value("${app.jwt.expiration:86400}")  // 24 hours default
-    private int jwtExpirationInSeconds;
+    private int jwtExpirationInSeconds = 86400;
 
     @Value("${app.jwt.refresh-expiration:604800}")  // 7 days default
-    private int jwtRefreshExpirationInSeconds;
+    private int jwtRefreshExpirationInSeconds = 604800;
 
     /**
      * Constructor initializes JWT secret key.
@@ -62,6 +71,15 @@ public class JwtTokenProvider {
             // Use provided secret key
             this.jwtSecret = Keys.hmacShaKeyFor(jwtSecretString.getBytes());
         }
+        this.jwtParser = Jwts.parser().verifyWith(jwtSecret).build();
+    }
+
+    /**
+     * Skip re-verifying access tokens seen before; see {@link VerifiedTokenCache}.
+     */
+    @Autowired(required = false)
+    public void setVerifiedTokenCache(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
@@ -156,11 +174,7 @@ public class JwtTokenProvider {
      * Extract user email from JWT token.
      */
     public String getUserEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseClaims(token);
 
         return claims.getSubject();
     }
@@ -169,11 +183,7 @@ public class JwtTokenProvider {
      * Extract user ID from JWT token.
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseClaims(token);
 
         return claims.get("userId", Long.class);
     }
@@ -182,11 +192,7 @@ public class JwtTokenProvider {
      * Extract user roles from JWT token.
      */
     public String getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseClaims(token);
 
         return claims.get("roles", String.class);
     }
@@ -195,11 +201,7 @@ public class JwtTokenProvider {
      * Get token expiration date.
      */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseClaims(token);
 
         return claims.getExpiration();
     }
@@ -218,30 +220,38 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Validate JWT token with comprehensive error handling.
+     * Verify an access token once and return its claims.
      * 
-     * Validation includes:
-     * - Signature verification
-     * - Expiration check
-     * - Token structure validation
-     * - Token type verification (for access tokens)
+     * Checks the signature, expiration, structure and token type in a single
+     * parse, or answers from the verified token cache for a token that already
+     * passed. Returns null, after logging why, when any check fails.
      */
-    public boolean validateToken(String authToken) {
+    public AccessTokenClaims parseAccessToken(String authToken) {
+        if (verifiedTokenCache != null && authToken != null) {
+            return verifiedTokenCache.get(authToken, this::verifyAccessToken);
+        }
+        return verifyAccessToken(authToken);
+    }
+
+    private AccessTokenClaims verifyAccessToken(String authToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtSecret)
-                    .build()
-                    .parseSignedClaims(authToken)
-                    .getPayload();
+            Claims claims = parseClaims(authToken);
 
             // Verify this is an access token
             String tokenType = claims.get("tokenType", String.class);
             if (!"ACCESS".equals(tokenType)) {
                 logger.warn("Invalid token type: {}", tokenType);
-                return false;
+                return null;
             }
 
-            return true;
+            String roles = claims.get("roles", String.class);
+            return new AccessTokenClaims(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    roles == null || roles.isEmpty() ? List.of() : List.copyOf(Arrays.asList(roles.split(","))),
+                    tokenType,
+                    claims.getIssuedAt(),
+                    claims.getExpiration());
 
         } catch (SecurityException ex) {
             logger.error("Invalid JWT signature: {}", ex.getMessage());
@@ -257,7 +267,20 @@ public class JwtTokenProvider {
             logger.error("JWT token validation error: {}", ex.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    /**
+     * Validate JWT token with comprehensive error handling.
+     * 
+     * Validation includes:
+     * - Signature verification
+     * - Expiration check
+     * - Token structure validation
+     * - Token type verification (for access tokens)
+     */
+    public boolean validateToken(String authToken) {
+        return parseAccessToken(authToken) != null;
     }
 
     /**
@@ -265,11 +288,7 @@ public class JwtTokenProvider {
      */
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtSecret)
-                    .build()
-                    .parseSignedClaims(refreshToken)
-                    .getPayload();
+            Claims claims = parseClaims(refreshToken);
 
             // Verify this is a refresh token
             String tokenType = claims.get("tokenType", String.class);
@@ -299,4 +318,8 @@ public class JwtTokenProvider {
             return 0;
         }
     }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.fintech.loanportal.security;
+
+/**
+ * Thrown when the password hashing executor is saturated and cannot queue
+ * another hash. Callers should answer 503 and let the client retry.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,97 @@
+package com.fintech.loanportal.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Resolves the principal for a verified access token, trusting its claims
+ * only for a bounded time.
+ *
+ * A token's claims are trusted for one time-to-live after it was issued.
+ * Older tokens are resolved from the database, and the loaded principal is
+ * cached for the same time-to-live, so a user costs one query per interval
+ * rather than one per request. A role change or disabled account therefore
+ * reaches every node within one time-to-live, without any messaging between
+ * nodes.
+ *
+ * {@link #invalidate(Long)} applies the change on this node at once: tokens
+ * issued up to that moment are loaded from the database even while still
+ * fresh, and tokens issued after it carry the current roles again. The
+ * invalidation marks are kept for the access token lifetime, after which
+ * every token they could apply to has expired.
+ */
+public final class PrincipalCache implements MeterBinder {
+
+    public static final String NAME = "principals";
+
+    private final Function<Long, UserPrincipal> loader;
+    private final Cache<Long, UserPrincipal> principals;
+    private final Cache<Long, Long> invalidatedAt;
+    private final long claimsTrustMillis;
+
+    public PrincipalCache(Function<Long, UserPrincipal> loader, long maximumSize, Duration timeToLive,
+                          Duration tokenLifetime) {
+        if (maximumSize < 1 || timeToLive.isNegative() || timeToLive.isZero()
+                || tokenLifetime.isNegative() || tokenLifetime.isZero()) {
+            throw new IllegalArgumentException("Principal cache size, time-to-live and token lifetime must be positive");
+        }
+        this.loader = loader;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(tokenLifetime)
+            .build();
+        this.claimsTrustMillis = timeToLive.toMillis();
+    }
+
+    /**
+     * Principal for a verified access token.
+     */
+    public UserPrincipal resolve(AccessTokenClaims claims) {
+        if (issuedAfter(claims, System.currentTimeMillis() - claimsTrustMillis)) {
+            Long changedAt = invalidatedAt.getIfPresent(claims.userId());
+            if (changedAt == null || issuedAfter(claims, changedAt)) {
+                return UserPrincipal.fromClaims(claims);
+            }
+        }
+        return principals.get(claims.userId(), loader);
+    }
+
+    /**
+     * Stop trusting the claims of this user's current tokens on this node,
+     * for example after their roles change or their account is disabled.
+     * Other nodes pick the change up within one time-to-live.
+     */
+    public void invalidate(Long userId) {
+        invalidatedAt.put(userId, System.currentTimeMillis());
+        principals.invalidate(userId);
+    }
+
+    /**
+     * Forget the database-loaded principals, for example after a bulk role
+     * change. Users already invalidated are loaded again on their next request.
+     */
+    public void invalidateAll() {
+        principals.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principals, NAME);
+    }
+
+    // iat has whole-second precision, so a token from the same second as the change counts as older
+    private static boolean issuedAfter(AccessTokenClaims claims, long changedAtMillis) {
+        return claims.issuedAt() != null && claims.issuedAt().getTime() > changedAtMillis;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fintech.loanportal.security;
+
+/**
+ * Where {@link JwtAuthenticationFilter} gets the principal for a verified
+ * access token.
+ */
+public enum PrincipalSource {
+    /** Load the user and roles from the database on every request. */
+    DATABASE,
+    /**
+     * Build the principal from the token's claims while the token is younger
+     * than the {@link PrincipalCache} time-to-live and its user has not been
+     * invalidated since; otherwise load the user through the cache.
+     */
+    CLAIMS
+}
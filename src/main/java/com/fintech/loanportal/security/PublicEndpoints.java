@@ -0,0 +1,31 @@
+package com.fintech.loanportal.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * The endpoints anyone may call without a token. SecurityConfig permits
+ * exactly these, and {@link JwtAuthenticationFilter} skips them.
+ *
+ * Only single-loan calculations are public. Batch, grid, affordability and
+ * prepayment calculations do work proportional to the request size, so they
+ * require an authenticated user.
+ */
+public final class PublicEndpoints {
+
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+        new AntPathRequestMatcher("/api/auth/**"),
+        new AntPathRequestMatcher("/api/loans/calculate", HttpMethod.POST.name()),
+        new AntPathRequestMatcher("/api/loans/calculate/schedule", HttpMethod.POST.name()),
+        new AntPathRequestMatcher("/api/loans/calculate/stream", HttpMethod.POST.name()),
+        new AntPathRequestMatcher("/api/loans/rates", HttpMethod.GET.name()),
+        new AntPathRequestMatcher("/swagger-ui/**"),
+        new AntPathRequestMatcher("/v3/api-docs/**"),
+        new AntPathRequestMatcher("/actuator/health"),
+        new AntPathRequestMatcher("/actuator/info"));
+
+    private PublicEndpoints() {
+    }
+}
@@ -0,0 +1,114 @@
+package com.fintech.loanportal.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt at a pinned work factor, re-hashing weaker hashes on login.
+ *
+ * New hashes are stored as {@code {bcrypt}$2a$<cost>$...}. Any stored hash
+ * can be verified, including bare BCrypt hashes written before the algorithm
+ * id was recorded. {@link #upgradeEncoding} reports hashes without the id or
+ * with a lower cost; stronger hashes are never downgraded.
+ *
+ * {@link #calibrate} measures the highest cost that fits a target latency on
+ * this machine, for choosing the pinned cost.
+ */
+public final class UpgradingBCryptPasswordEncoder implements PasswordEncoder {
+
+    public static final String ALGORITHM_ID = "bcrypt";
+
+    private static final String PREFIX = "{" + ALGORITHM_ID + "}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    // BCrypt's own bounds on the log2 work factor
+    private static final int MIN_BCRYPT_COST = 4;
+    private static final int MAX_BCRYPT_COST = 31;
+
+    private final int cost;
+    private final DelegatingPasswordEncoder delegate;
+
+    public UpgradingBCryptPasswordEncoder(int cost) {
+        if (cost < MIN_BCRYPT_COST || cost > MAX_BCRYPT_COST) {
+            throw new IllegalArgumentException(
+                "BCrypt cost must be between " + MIN_BCRYPT_COST + " and " + MAX_BCRYPT_COST);
+        }
+        this.cost = cost;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        this.delegate = new DelegatingPasswordEncoder(ALGORITHM_ID, Map.of(ALGORITHM_ID, bcrypt));
+        // Hashes stored before the algorithm id was recorded are bare BCrypt
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (!encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        return costOf(encodedPassword.substring(PREFIX.length())) < cost;
+    }
+
+    /**
+     * Work factor of a BCrypt hash, or -1 if it is not one.
+     */
+    static int costOf(String bcryptHash) {
+        Matcher matcher = BCRYPT_COST.matcher(bcryptHash);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * The highest cost between {@code minCost} and {@code maxCost} whose hash
+     * takes no longer than the target on this machine. Each step doubles the
+     * work, so measuring stops at the first cost whose next step would
+     * overshoot.
+     */
+    public static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        if (minCost < MIN_BCRYPT_COST || maxCost > MAX_BCRYPT_COST || minCost > maxCost) {
+            throw new IllegalArgumentException("Calibration needs " + MIN_BCRYPT_COST + " <= minCost <= maxCost <= "
+                + MAX_BCRYPT_COST);
+        }
+        long targetNanos = targetLatency.toNanos();
+        int chosen = minCost;
+        long elapsed = timeHash(chosen);
+        while (chosen < maxCost && elapsed * 2 <= targetNanos) {
+            chosen++;
+            elapsed = timeHash(chosen);
+        }
+        return chosen;
+    }
+
+    // Best of two, so the first run's class loading and JIT do not count
+    private static long timeHash(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int sample = 0; sample < 2; sample++) {
+            long startedAt = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -37,6 +37,23 @@ public class UserPrincipal implements UserDetails {
         );
     }
 
+    /**
+     * Principal for a verified access token, without a database lookup. It
+     * carries no password.
+     */
+    public static UserPrincipal fromClaims(AccessTokenClaims claims) {
+        List<GrantedAuthority> authorities = claims.roles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+
+        return new UserPrincipal(
+                claims.userId(),
+                claims.email(),
+                null,
+                authorities
+        );
+    }
+
     public Long getId() {
         return id;
     }
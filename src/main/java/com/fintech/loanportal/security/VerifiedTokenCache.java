@@ -0,0 +1,152 @@
+package com.fintech.loanportal.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers access tokens that have already passed verification, so a client
+ * re-sending the same token skips the HMAC check and claim parsing.
+ *
+ * Entries are keyed by the SHA-256 digest of the token rather than the token
+ * itself: keys have a fixed size and no usable credential is held in memory.
+ * Each entry expires at the token's own expiry or after the configured
+ * time-to-live, whichever comes first, so a cached token is never accepted
+ * after it would fail verification. The cache is size-bounded and evicts
+ * the least valuable entries first. Lookups are lock-free reads; a miss
+ * verifies outside any lock, and only tokens that verified are stored.
+ *
+ * When disabled every call verifies the token.
+ */
+public final class VerifiedTokenCache implements MeterBinder {
+
+    public static final String NAME = "verifiedTokens";
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, AccessTokenClaims> cache;
+
+    public VerifiedTokenCache(boolean enabled, long maximumSize, Duration timeToLive) {
+        if (maximumSize < 1 || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Verified token cache size and time-to-live must be positive");
+        }
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry(timeToLive.toNanos()))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Return the verified claims for a token, calling the verifier only when
+     * the token is not cached. A null result from the verifier is returned
+     * and not cached.
+     */
+    public AccessTokenClaims get(String token, Function<String, AccessTokenClaims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        AccessTokenClaims claims = cache.getIfPresent(digest);
+        if (claims == null) {
+            claims = verifier.apply(token);
+            if (claims != null) {
+                cache.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public double hitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+        Gauge.builder("cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+            .tag("cache", NAME)
+            .description("Share of token lookups answered without verifying the token")
+            .register(registry);
+    }
+
+    /**
+     * Nanoseconds an entry may live: until the token expires, capped by the
+     * time-to-live. Zero for tokens already expired.
+     */
+    static long lifetimeNanos(AccessTokenClaims claims, long nowMillis, long timeToLiveNanos) {
+        if (claims.expiration() == null) {
+            return 0;
+        }
+        long remainingMillis = claims.expiration().getTime() - nowMillis;
+        if (remainingMillis <= 0) {
+            return 0;
+        }
+        return Math.min(timeToLiveNanos, Duration.ofMillis(remainingMillis).toNanos());
+    }
+
+    private static final class TokenExpiry implements Expiry<TokenDigest, AccessTokenClaims> {
+
+        private final long timeToLiveNanos;
+
+        TokenExpiry(long timeToLiveNanos) {
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, AccessTokenClaims value, long currentTime) {
+            return lifetimeNanos(value, System.currentTimeMillis(), timeToLiveNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, AccessTokenClaims value, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, AccessTokenClaims value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * SHA-256 of a token as four longs.
+     */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            ByteBuffer hash = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+}
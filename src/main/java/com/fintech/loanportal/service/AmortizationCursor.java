@@ -0,0 +1,134 @@
+package com.fintech.loanportal.service;
+
+/**
+ * Walks an amortization schedule one payment at a time using {@code long} cents.
+ *
+ * The cursor applies exactly the rounding rules of the BigDecimal schedule:
+ * interest is rounded HALF_UP to the cent on the opening balance, principal is
+ * the payment minus interest, and the final payment absorbs any residual so the
+ * loan pays off to zero. State lives in primitive fields, so advancing through
+ * a schedule allocates nothing.
+ */
+public final class AmortizationCursor {
+
+    private final long principalCents;
+    private final long monthlyRateE8;
+    private final long scheduledPaymentCents;
+    private final int termMonths;
+
+    private int paymentNumber;
+    private long paymentCents;
+    private long principalPaymentCents;
+    private long interestPaymentCents;
+    private long balanceCents;
+    private long cumulativeInterestCents;
+
+    public AmortizationCursor(long principalCents, long monthlyRateE8, long scheduledPaymentCents, int termMonths) {
+        this.principalCents = principalCents;
+        this.monthlyRateE8 = monthlyRateE8;
+        this.scheduledPaymentCents = scheduledPaymentCents;
+        this.termMonths = termMonths;
+        reset();
+    }
+
+    /**
+     * Rewind to the state before the first payment.
+     */
+    public void reset() {
+        paymentNumber = 0;
+        paymentCents = 0;
+        principalPaymentCents = 0;
+        interestPaymentCents = 0;
+        balanceCents = principalCents;
+        cumulativeInterestCents = 0;
+    }
+
+    /**
+     * Position the cursor on the given payment number (0 = before the first
+     * payment). Moving backwards rewinds to the start; moving forwards only
+     * steps the primitive state, so paging deep into a schedule is cheap.
+     */
+    public void seek(int targetPaymentNumber) {
+        if (targetPaymentNumber < 0 || targetPaymentNumber > termMonths) {
+            throw new IllegalArgumentException("Payment number must be between 0 and " + termMonths);
+        }
+        if (targetPaymentNumber < paymentNumber) {
+            reset();
+        }
+        while (paymentNumber < targetPaymentNumber) {
+            next();
+        }
+    }
+
+    public boolean hasNext() {
+        return paymentNumber < termMonths;
+    }
+
+    /**
+     * Advance to the next payment.
+     *
+     * @return false when the schedule is already complete
+     */
+    public boolean next() {
+        if (paymentNumber >= termMonths) {
+            return false;
+        }
+        paymentNumber++;
+        long interest = FixedPointLoanMath.monthlyInterestCents(balanceCents, monthlyRateE8);
+        long principal = scheduledPaymentCents - interest;
+        long payment = scheduledPaymentCents;
+
+        // Adjust for final payment to ensure exact payoff
+        if (paymentNumber == termMonths && principal != balanceCents) {
+            principal = balanceCents;
+            payment = principal + interest;
+        }
+
+        balanceCents -= principal;
+        cumulativeInterestCents += interest;
+        paymentCents = payment;
+        principalPaymentCents = principal;
+        interestPaymentCents = interest;
+        return true;
+    }
+
+    public int getPaymentNumber() {
+        return paymentNumber;
+    }
+
+    public int getTermMonths() {
+        return termMonths;
+    }
+
+    public long getScheduledPaymentCents() {
+        return scheduledPaymentCents;
+    }
+
+    public long getMonthlyRateE8() {
+        return monthlyRateE8;
+    }
+
+    public long getPaymentCents() {
+        return paymentCents;
+    }
+
+    public long getPrincipalPaymentCents() {
+        return principalPaymentCents;
+    }
+
+    public long getInterestPaymentCents() {
+        return interestPaymentCents;
+    }
+
+    /**
+     * Balance after the current payment; may be negative mid-schedule when the
+     * rounded payment overshoots, mirroring the BigDecimal engine.
+     */
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+
+    public long getCumulativeInterestCents() {
+        return cumulativeInterestCents;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fintech.loanportal.service;
+
+/**
+ * Arithmetic engine used by {@link LoanCalculationService} to build schedules;
+ * see {@link LoanCalculationEngine}. Selected with the
+ * {@code app.loan.calculation.engine} property, or per request with the
+ * {@code X-Calculation-Engine} header when that is enabled.
+ */
+public enum AmortizationEngine {
+
+    /** BigDecimal arithmetic throughout, with payment factors from the annuity factor cache. */
+    BIG_DECIMAL,
+
+    /** Scaled long cents and rates with HALF_UP rounding; matches BIG_DECIMAL to the cent. */
+    FIXED_POINT,
+
+    /**
+     * Compute an uncached BigDecimal reference, check both other engines
+     * against it, log any divergence and return the reference result.
+     */
+    CROSS_CHECK
+}
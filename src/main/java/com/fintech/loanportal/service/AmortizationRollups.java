@@ -0,0 +1,122 @@
+package com.fintech.loanportal.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.fintech.loanportal.dto.AmortizationRollup;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+/**
+ * Folds schedule rows into quarterly and yearly totals as they are produced.
+ *
+ * Rows must arrive in payment order. Sums are kept in {@code long} cents and
+ * a period only becomes an {@link AmortizationRollup} when its last row
+ * arrives, so rolling up a 360-row schedule allocates one object per period
+ * and never needs the rows themselves.
+ */
+final class AmortizationRollups {
+
+    private final Accumulator quarterly;
+    private final Accumulator yearly;
+
+    private AmortizationRollups(Accumulator quarterly, Accumulator yearly) {
+        this.quarterly = quarterly;
+        this.yearly = yearly;
+    }
+
+    /**
+     * @return an accumulator for the requested periods, or null when none are requested
+     */
+    static AmortizationRollups of(Set<RollupPeriod> periods, LocalDate firstPaymentDate, int termMonths) {
+        if (periods == null || periods.isEmpty()) {
+            return null;
+        }
+        return new AmortizationRollups(
+            periods.contains(RollupPeriod.QUARTERLY)
+                ? new Accumulator(RollupPeriod.QUARTERLY, firstPaymentDate, termMonths) : null,
+            periods.contains(RollupPeriod.YEARLY)
+                ? new Accumulator(RollupPeriod.YEARLY, firstPaymentDate, termMonths) : null);
+    }
+
+    void add(int paymentNumber, long paymentCents, long principalCents, long interestCents, long balanceCents) {
+        if (quarterly != null) {
+            quarterly.add(paymentNumber, paymentCents, principalCents, interestCents, balanceCents);
+        }
+        if (yearly != null) {
+            yearly.add(paymentNumber, paymentCents, principalCents, interestCents, balanceCents);
+        }
+    }
+
+    /**
+     * Close any partial final period and attach the totals to the result.
+     */
+    void applyTo(LoanCalculationResult result) {
+        if (quarterly != null) {
+            result.setQuarterlyRollups(quarterly.build());
+        }
+        if (yearly != null) {
+            result.setYearlyRollups(yearly.build());
+        }
+    }
+
+    private static final class Accumulator {
+
+        private final int monthsPerPeriod;
+        private final LocalDate firstPaymentDate;
+        private final List<AmortizationRollup> rollups;
+
+        private int firstPaymentNumber;
+        private int lastPaymentNumber;
+        private long paymentCents;
+        private long principalCents;
+        private long interestCents;
+        private long balanceCents;
+
+        Accumulator(RollupPeriod period, LocalDate firstPaymentDate, int termMonths) {
+            this.monthsPerPeriod = period.getMonthsPerPeriod();
+            this.firstPaymentDate = firstPaymentDate;
+            this.rollups = new ArrayList<>((termMonths + monthsPerPeriod - 1) / monthsPerPeriod);
+        }
+
+        void add(int paymentNumber, long payment, long principal, long interest, long balance) {
+            if (lastPaymentNumber == 0) {
+                firstPaymentNumber = paymentNumber;
+            }
+            lastPaymentNumber = paymentNumber;
+            paymentCents += payment;
+            principalCents += principal;
+            interestCents += interest;
+            balanceCents = balance;
+            if (paymentNumber % monthsPerPeriod == 0) {
+                close();
+            }
+        }
+
+        List<AmortizationRollup> build() {
+            if (lastPaymentNumber != 0) {
+                close();
+            }
+            return rollups;
+        }
+
+        private void close() {
+            rollups.add(new AmortizationRollup(
+                (lastPaymentNumber - 1) / monthsPerPeriod + 1,
+                firstPaymentNumber,
+                lastPaymentNumber,
+                firstPaymentDate.plusMonths(firstPaymentNumber - 1),
+                firstPaymentDate.plusMonths(lastPaymentNumber - 1),
+                FixedPointLoanMath.fromCents(paymentCents),
+                FixedPointLoanMath.fromCents(principalCents),
+                FixedPointLoanMath.fromCents(interestCents),
+                FixedPointLoanMath.fromCents(balanceCents)));
+            lastPaymentNumber = 0;
+            paymentCents = 0;
+            principalCents = 0;
+            interestCents = 0;
+        }
+    }
+}
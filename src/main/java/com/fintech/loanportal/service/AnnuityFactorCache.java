@@ -0,0 +1,150 @@
+package com.fintech.loanportal.service;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded cache of annuity factors keyed by (monthly rate, term).
+ *
+ * Payment and affordability calculations both need (1+r)^n. Realistic inputs
+ * fall into a small set of (rate, term) pairs, so the scale-8 factors derived
+ * from that power are cached instead of being recomputed on every call.
+ *
+ * The table is direct-mapped: each key hashes to one slot, and a colliding key
+ * simply replaces the previous entry. Memory is fixed by the capacity, reads
+ * are a single volatile load, and no locking is involved.
+ */
+public class AnnuityFactorCache implements MeterBinder {
+
+    public static final int DEFAULT_CAPACITY = 16_384;
+
+    private static final String CACHE_NAME = "annuityFactors";
+
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder occupied = new LongAdder();
+
+    public AnnuityFactorCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AnnuityFactorCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Annuity factor cache capacity must be positive");
+        }
+        int size = Integer.highestOneBit(Math.min(capacity, 1 << 24));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * r(1+r)^n / ((1+r)^n - 1) in units of 1e-8, as used for monthly payments.
+     */
+    public long paymentFactorE8(long monthlyRateE8, int termMonths) {
+        return lookup(monthlyRateE8, termMonths).paymentFactorE8;
+    }
+
+    /**
+     * Scheduled monthly payment in cents, using the cached payment factor.
+     * Zero-rate loans divide the principal evenly over the term.
+     */
+    public long monthlyPaymentCents(long principalCents, long monthlyRateE8, int termMonths) {
+        if (monthlyRateE8 == 0) {
+            return FixedPointLoanMath.divideHalfUp(principalCents, termMonths);
+        }
+        return FixedPointLoanMath.applyFactorE8(principalCents, paymentFactorE8(monthlyRateE8, termMonths));
+    }
+
+    /**
+     * ((1+r)^n - 1) / (r(1+r)^n) in units of 1e-8, as used for affordability.
+     */
+    public long affordabilityFactorE8(long monthlyRateE8, int termMonths) {
+        return lookup(monthlyRateE8, termMonths).affordabilityFactorE8;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getCapacity() {
+        return table.length();
+    }
+
+    /**
+     * Slots holding a factor. Collisions replace entries, so this never
+     * exceeds the capacity.
+     */
+    public long getSize() {
+        return occupied.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .description("Annuity factor lookups served from the table")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .description("Annuity factor lookups that computed (1+r)^n")
+            .register(registry);
+        Gauge.builder("cache.size", this, AnnuityFactorCache::getSize)
+            .tag("cache", CACHE_NAME)
+            .description("Annuity factors currently in the table")
+            .register(registry);
+        Gauge.builder("cache.capacity", this, AnnuityFactorCache::getCapacity)
+            .tag("cache", CACHE_NAME)
+            .description("Slots in the annuity factor table")
+            .register(registry);
+    }
+
+    private Entry lookup(long monthlyRateE8, int termMonths) {
+        int slot = slot(monthlyRateE8, termMonths);
+        Entry entry = table.get(slot);
+        if (entry != null && entry.monthlyRateE8 == monthlyRateE8 && entry.termMonths == termMonths) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        entry = new Entry(monthlyRateE8, termMonths,
+            FixedPointLoanMath.paymentFactorE8(monthlyRateE8, termMonths),
+            FixedPointLoanMath.affordabilityFactorE8(monthlyRateE8, termMonths));
+        if (table.getAndSet(slot, entry) == null) {
+            occupied.increment();
+        }
+        return entry;
+    }
+
+    private int slot(long monthlyRateE8, int termMonths) {
+        long hash = (monthlyRateE8 * 31 + termMonths) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Entry {
+        final long monthlyRateE8;
+        final int termMonths;
+        final long paymentFactorE8;
+        final long affordabilityFactorE8;
+
+        Entry(long monthlyRateE8, int termMonths, long paymentFactorE8, long affordabilityFactorE8) {
+            this.monthlyRateE8 = monthlyRateE8;
+            this.termMonths = termMonths;
+            this.paymentFactorE8 = paymentFactorE8;
+            this.affordabilityFactorE8 = affordabilityFactorE8;
+        }
+    }
+}
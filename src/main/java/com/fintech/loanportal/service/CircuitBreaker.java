@@ -0,0 +1,98 @@
+package com.fintech.loanportal.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal circuit breaker guarding calls to a remote dependency.
+ *
+ * - CLOSED: calls go through; consecutive failures are counted
+ * - OPEN: calls are refused until the open duration has elapsed
+ * - HALF_OPEN: a single trial call is let through; success closes the
+ *   circuit, failure opens it again
+ *
+ * A call that succeeds but takes longer than the slow-call threshold counts
+ * as a failure, so a degraded dependency trips the breaker just like a dead one.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long slowCallNanos;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold) {
+        this(failureThreshold, openDuration, slowCallThreshold, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold, LongSupplier clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Circuit breaker failure threshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may be attempted now. When the open period has elapsed,
+     * exactly one caller wins the transition to HALF_OPEN and gets the trial call.
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.getAsLong() - openedAt >= openDurationNanos) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * Record a completed call and how long it took. Only the trial call can
+     * close the circuit; a call that started before it opened and finishes
+     * afterwards is ignored.
+     */
+    public void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        State current = state.get();
+        if (current == State.OPEN) {
+            return;
+        }
+        if (current == State.CLOSED || state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = clock.getAsLong();
+            state.set(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Current time on the breaker's clock, for timing calls consistently.
+     */
+    public long now() {
+        return clock.getAsLong();
+    }
+}
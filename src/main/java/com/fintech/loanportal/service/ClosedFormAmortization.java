@@ -0,0 +1,70 @@
+package com.fintech.loanportal.service;
+
+/**
+ * Closed-form amortization values for any payment number in O(1).
+ *
+ * The balance after k payments of A on principal P at monthly rate r is
+ * B(k) = P(1+r)^k - A((1+r)^k - 1) / r. These are exact-arithmetic values in
+ * cents (as doubles). The iterative schedule rounds interest to the cent every
+ * month, and each rounding error of up to half a cent then compounds. The two
+ * therefore drift apart by at most {@link #driftBoundCents}. Use the closed form
+ * for analytics and projections. Use {@link AmortizationCursor} when the
+ * published, cent-exact schedule rows are required.
+ */
+public final class ClosedFormAmortization {
+
+    private final double principalCents;
+    private final double monthlyRate;
+    private final double paymentCents;
+    private final double log1pRate;
+
+    public ClosedFormAmortization(long principalCents, long monthlyRateE8, long paymentCents) {
+        this.principalCents = principalCents;
+        this.monthlyRate = (double) monthlyRateE8 / FixedPointLoanMath.RATE_SCALE;
+        this.paymentCents = paymentCents;
+        this.log1pRate = Math.log1p(monthlyRate);
+    }
+
+    /**
+     * Balance in cents after the given number of payments.
+     */
+    public double balanceAfter(int paymentNumber) {
+        if (monthlyRate == 0) {
+            return principalCents - paymentCents * paymentNumber;
+        }
+        double growthMinusOne = Math.expm1(paymentNumber * log1pRate);
+        return principalCents * (growthMinusOne + 1.0) - paymentCents * growthMinusOne / monthlyRate;
+    }
+
+    /**
+     * Interest portion of the given payment (1-based), in cents.
+     */
+    public double interestFor(int paymentNumber) {
+        return monthlyRate * balanceAfter(paymentNumber - 1);
+    }
+
+    /**
+     * Principal portion of the given payment (1-based), in cents.
+     */
+    public double principalFor(int paymentNumber) {
+        return paymentCents - interestFor(paymentNumber);
+    }
+
+    /**
+     * Cumulative interest paid through the given payment, in cents.
+     */
+    public double cumulativeInterestThrough(int paymentNumber) {
+        return paymentCents * paymentNumber - (principalCents - balanceAfter(paymentNumber));
+    }
+
+    /**
+     * Upper bound on |iterative balance - closed-form balance| after the given
+     * payment: half a cent of rounding per month, compounded at the loan rate.
+     */
+    public double driftBoundCents(int paymentNumber) {
+        if (monthlyRate == 0) {
+            return 0;
+        }
+        return 0.5 * Math.expm1(paymentNumber * log1pRate) / monthlyRate + 1e-6 * Math.abs(principalCents);
+    }
+}
@@ -0,0 +1,181 @@
+package com.fintech.loanportal.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scaled-integer arithmetic for loan calculations.
+ *
+ * Money is carried as {@code long} cents and monthly rates as {@code long}
+ * units of 1e-8, which is exactly the precision {@link LoanCalculationService}
+ * uses for its BigDecimal monthly rate. Every rounding step is HALF_UP, so the
+ * results match the BigDecimal engine to the cent.
+ *
+ * Value bounds (validated loan amounts up to $10,000,000 and rates up to 30%)
+ * keep every intermediate product well inside the range of a {@code long}.
+ */
+public final class FixedPointLoanMath {
+
+    public static final long CENTS_PER_UNIT = 100L;
+    public static final long RATE_SCALE = 100_000_000L;  // monthly rates carry 8 decimal places
+    public static final int RATE_DECIMALS = 8;
+
+    // Relative error budget for the double-precision annuity factor. The actual
+    // error of expm1/log1p is around 1e-13, so this leaves a wide safety margin.
+    private static final double FACTOR_GUARD = 1e-11;
+
+    private FixedPointLoanMath() {
+    }
+
+    /**
+     * Whether the amount can be represented exactly in cents.
+     */
+    public static boolean isCentAligned(BigDecimal amount) {
+        return amount.scale() <= 2 || amount.stripTrailingZeros().scale() <= 2;
+    }
+
+    /**
+     * Convert an amount with at most two decimal places to cents.
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Convert an annual percentage rate to a monthly rate in units of 1e-8.
+     * Mirrors {@code annualRate / 100 / 12} with two HALF_UP divisions at scale 8.
+     */
+    public static long monthlyRateE8(BigDecimal annualRatePercent) {
+        return monthlyRateE8(annualRateE8(annualRatePercent));
+    }
+
+    /**
+     * Annual percentage rate as a fraction in units of 1e-8 (6.5% is 6,500,000).
+     */
+    public static long annualRateE8(BigDecimal annualRatePercent) {
+        return annualRatePercent.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static long monthlyRateE8(long annualRateE8) {
+        return divideHalfUp(annualRateE8, 12);
+    }
+
+    /**
+     * Integer division rounding half away from zero, matching {@link RoundingMode#HALF_UP}.
+     */
+    public static long divideHalfUp(long numerator, long denominator) {
+        long magnitude = Math.abs(numerator);
+        long quotient = magnitude / denominator;
+        long remainder = magnitude % denominator;
+        if (remainder >= denominator - remainder) {
+            quotient++;
+        }
+        return numerator < 0 ? -quotient : quotient;
+    }
+
+    /**
+     * Interest for one month on the given balance, rounded to the cent.
+     */
+    public static long monthlyInterestCents(long balanceCents, long monthlyRateE8) {
+        return divideHalfUp(balanceCents * monthlyRateE8, RATE_SCALE);
+    }
+
+    /**
+     * Monthly payment in cents for a fully amortizing loan.
+     *
+     * Zero-rate loans divide the principal evenly; otherwise the principal is
+     * multiplied by the scale-8 payment factor and rounded to the cent.
+     */
+    public static long monthlyPaymentCents(long principalCents, long monthlyRateE8, int termMonths) {
+        if (monthlyRateE8 == 0) {
+            return divideHalfUp(principalCents, termMonths);
+        }
+        return applyFactorE8(principalCents, paymentFactorE8(monthlyRateE8, termMonths));
+    }
+
+    /**
+     * Multiply cents by a scale-8 factor and round back to cents.
+     */
+    public static long applyFactorE8(long cents, long factorE8) {
+        return divideHalfUp(cents * factorE8, RATE_SCALE);
+    }
+
+    /**
+     * Payment factor r(1+r)^n / ((1+r)^n - 1) rounded HALF_UP to 8 decimal places.
+     *
+     * The factor is evaluated in double precision using log1p/expm1, which is
+     * accurate to about 1e-13 relative. Only when the scaled value lands within
+     * the error budget of a rounding boundary is the exact BigDecimal formula
+     * used, so the result always equals the BigDecimal engine's factor.
+     */
+    public static long paymentFactorE8(long monthlyRateE8, int termMonths) {
+        double rate = (double) monthlyRateE8 / RATE_SCALE;
+        double growthMinusOne = Math.expm1(termMonths * Math.log1p(rate));
+        return paymentFactorE8(monthlyRateE8, termMonths, growthMinusOne);
+    }
+
+    /**
+     * Payment factor from a precomputed (1+r)^n - 1, for callers that build the
+     * powers incrementally.
+     */
+    public static long paymentFactorE8(long monthlyRateE8, int termMonths, double growthMinusOne) {
+        double rate = (double) monthlyRateE8 / RATE_SCALE;
+        double scaled = rate * (growthMinusOne + 1.0) / growthMinusOne * RATE_SCALE;
+        long rounded = roundHalfUpGuarded(scaled);
+        return rounded >= 0 ? rounded : exactPaymentFactor(monthlyRateE8, termMonths).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Affordability factor ((1+r)^n - 1) / (r(1+r)^n) rounded HALF_UP to 8
+     * decimal places, i.e. the present value of a unit monthly payment.
+     */
+    public static long affordabilityFactorE8(long monthlyRateE8, int termMonths) {
+        double rate = (double) monthlyRateE8 / RATE_SCALE;
+        double growthMinusOne = Math.expm1(termMonths * Math.log1p(rate));
+        double scaled = growthMinusOne / (rate * (growthMinusOne + 1.0)) * RATE_SCALE;
+        long rounded = roundHalfUpGuarded(scaled);
+        return rounded >= 0 ? rounded : exactAffordabilityFactor(monthlyRateE8, termMonths).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Exact payment factor using the same BigDecimal formula as {@link LoanCalculationService}.
+     */
+    static BigDecimal exactPaymentFactor(long monthlyRateE8, int termMonths) {
+        BigDecimal monthlyRate = BigDecimal.valueOf(monthlyRateE8, RATE_DECIMALS);
+        BigDecimal onePlusRatePowerN = BigDecimal.ONE.add(monthlyRate).pow(termMonths);
+        BigDecimal numerator = monthlyRate.multiply(onePlusRatePowerN);
+        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, RATE_DECIMALS, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Exact affordability factor using the same BigDecimal formula as {@link LoanCalculationService}.
+     */
+    static BigDecimal exactAffordabilityFactor(long monthlyRateE8, int termMonths) {
+        BigDecimal monthlyRate = BigDecimal.valueOf(monthlyRateE8, RATE_DECIMALS);
+        BigDecimal onePlusRatePowerN = BigDecimal.ONE.add(monthlyRate).pow(termMonths);
+        BigDecimal numerator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+        BigDecimal denominator = monthlyRate.multiply(onePlusRatePowerN);
+        return numerator.divide(denominator, RATE_DECIMALS, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Round a positive scaled value HALF_UP, or return -1 when it is too close to
+     * the .5 boundary for double precision to decide the direction.
+     */
+    private static long roundHalfUpGuarded(double scaled) {
+        if (!Double.isFinite(scaled) || scaled <= 0 || scaled >= Long.MAX_VALUE / 4.0) {
+            return -1;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) <= Math.max(scaled * FACTOR_GUARD, 1e-6)) {
+            return -1;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fintech.loanportal.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Calculates many loans in one call for quote sheets and partner integrations.
+ *
+ * The whole batch is validated up front so callers get every error at once,
+ * then the calculations fan out across the bounded loan calculation pool.
+ * Results are returned in request order.
+ */
+@Service
+public class LoanBatchCalculationService {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    @Value("${app.loan.calculation.batch-max-size:1000}")
+    private int maxBatchSize = 1000;
+
+    /**
+     * Calculate every request in the batch.
+     *
+     * @param summaryOnly when true, only payment and totals are computed and
+     *                    the amortization schedule is omitted
+     */
+    public List<LoanCalculationResult> calculateBatch(List<LoanCalculationRequest> requests, boolean summaryOnly) {
+        validateBatch(requests);
+
+        if (requests.size() == 1) {
+            return List.of(calculate(requests.get(0), summaryOnly));
+        }
+
+        return CalculationConfig.runOnPool(loanCalculationPool, () -> IntStream.range(0, requests.size())
+            .parallel()
+            .mapToObj(i -> calculate(requests.get(i), summaryOnly))
+            .toList(), "Batch calculation");
+    }
+
+    private LoanCalculationResult calculate(LoanCalculationRequest request, boolean summaryOnly) {
+        return summaryOnly
+            ? loanCalculationService.calculateLoanSummary(request)
+            : loanCalculationService.calculateLoan(request);
+    }
+
+    private void validateBatch(List<LoanCalculationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one calculation request");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot exceed " + maxBatchSize + " calculation requests");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                loanCalculationService.validateLoanRequest(requests.get(i));
+            } catch (IllegalArgumentException e) {
+                errors.add("[" + i + "] " + e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new LoanBatchValidationException(errors);
+        }
+    }
+}
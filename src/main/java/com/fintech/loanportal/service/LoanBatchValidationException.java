@@ -0,0 +1,21 @@
+package com.fintech.loanportal.service;
+
+import java.util.List;
+
+/**
+ * Thrown when one or more requests in a batch calculation are invalid.
+ * Carries one message per invalid request, prefixed with its index.
+ */
+public class LoanBatchValidationException extends IllegalArgumentException {
+
+    private final List<String> errors;
+
+    public LoanBatchValidationException(List<String> errors) {
+        super("Invalid batch calculation request: " + errors.size() + " invalid item(s)");
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fintech.loanportal.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Entry point for loan calculations from request handlers.
+ *
+ * Sits in front of the cached {@link LoanCalculationService#calculateLoan} so
+ * that identical requests arriving together (a campaign's default quote, for
+ * example) wait on one computation instead of each missing the cache and
+ * computing it again. Requests are matched on their {@link LoanCalculationKey};
+ * the leader's result is also cached before the waiters are released.
+ */
+@Service
+public class LoanCalculationCoalescer {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    @Qualifier("loanCalculationSingleFlight")
+    private SingleFlight<LoanCalculationKey, LoanCalculationResult> singleFlight;
+
+    public LoanCalculationResult calculateLoan(LoanCalculationRequest request) {
+        // Invalid requests fail on their own rather than sharing another caller's error
+        loanCalculationService.validateLoanRequest(request);
+        return singleFlight.execute(LoanCalculationKey.of(request), () -> loanCalculationService.calculateLoan(request));
+    }
+}
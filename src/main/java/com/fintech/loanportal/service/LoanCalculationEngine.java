@@ -0,0 +1,19 @@
+package com.fintech.loanportal.service;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Arithmetic behind {@link LoanCalculationService#calculateLoan}.
+ *
+ * The service ships one engine per {@link AmortizationEngine}; a bean of this
+ * type replaces the built-in engine of the same type. Requests are validated
+ * before they reach an engine, and every engine must return the same values,
+ * to the cent, as the BIG_DECIMAL reference.
+ */
+public interface LoanCalculationEngine {
+
+    AmortizationEngine getType();
+
+    LoanCalculationResult calculate(LoanCalculationRequest request);
+}
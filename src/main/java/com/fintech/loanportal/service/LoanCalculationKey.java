@@ -0,0 +1,66 @@
+package com.fintech.loanportal.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+/**
+ * Normalized identity of a loan calculation, used as the cache key.
+ *
+ * Amount and rate are scale-stripped so "1000" and "1000.00" share an entry,
+ * and a missing start date resolves to today because the schedule dates
+ * depend on it. The requested roll-ups (one bit per {@link RollupPeriod}) and
+ * whether monthly rows are included are part of the key, since they change
+ * the shape of the result.
+ */
+public record LoanCalculationKey(BigDecimal loanAmount, BigDecimal interestRate, int termMonths,
+                                 LocalDate startDate, int rollupMask, boolean includeSchedule) {
+
+    public static LoanCalculationKey of(LoanCalculationRequest request) {
+        return new LoanCalculationKey(
+            normalize(request.getLoanAmount()),
+            normalize(request.getInterestRate()),
+            request.getLoanTermMonths(),
+            request.getStartDate() != null ? request.getStartDate() : LocalDate.now(),
+            rollupMask(request.getRollups()),
+            request.isIncludeSchedule());
+    }
+
+    /**
+     * Stable string form for keys in shared stores, e.g. "250000|6.5|360|2024-01-15",
+     * with {@code |r<mask>} and {@code |n} appended for roll-ups and omitted rows.
+     */
+    public String toRemoteKey() {
+        String key = plain(loanAmount) + "|" + plain(interestRate) + "|" + termMonths + "|" + startDate;
+        if (rollupMask != 0) {
+            key += "|r" + rollupMask;
+        }
+        return includeSchedule ? key : key + "|n";
+    }
+
+    private static int rollupMask(Set<RollupPeriod> rollups) {
+        int mask = 0;
+        if (rollups != null) {
+            for (RollupPeriod period : rollups) {
+                if (period != null) {
+                    mask |= 1 << period.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : "";
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,335 @@
+package com.fintech.loanportal.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fintech.loanportal.dto.AmortizationRollup;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+/**
+ * Compact binary encoding of {@link LoanCalculationResult} for the shared cache tier.
+ *
+ * Amounts are written as a scale byte plus a zigzag varint of the unscaled
+ * value. Schedule columns are delta-encoded against the previous row, so a
+ * 360-row schedule takes a few kilobytes instead of the ~100 KB of its JSON or
+ * Java-serialized form. Quarterly and yearly roll-ups follow the schedule
+ * when present. The first byte is a format version; anything that
+ * does not decode cleanly is reported as {@link IllegalArgumentException}.
+ */
+public final class LoanCalculationResultCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_SCHEDULE = 1;
+    private static final int FLAG_CALCULATED_AT = 1 << 1;
+    private static final int FLAG_YEARLY_ROLLUPS = 1 << 2;
+    private static final int FLAG_QUARTERLY_ROLLUPS = 1 << 3;
+
+    private static final int TAG_NULL = 0xFF;
+    private static final int TAG_BIG = 0xFE;
+    private static final int MAX_INLINE_SCALE = 0x7F;
+
+    private LoanCalculationResultCodec() {
+    }
+
+    public static byte[] encode(LoanCalculationResult result) {
+        List<AmortizationScheduleEntry> schedule = result.getAmortizationSchedule();
+        Writer out = new Writer(64 + (schedule != null ? schedule.size() * 16 : 0));
+        out.writeByte(VERSION);
+        out.writeByte((schedule != null ? FLAG_SCHEDULE : 0)
+            | (result.getCalculatedAt() != null ? FLAG_CALCULATED_AT : 0)
+            | (result.getYearlyRollups() != null ? FLAG_YEARLY_ROLLUPS : 0)
+            | (result.getQuarterlyRollups() != null ? FLAG_QUARTERLY_ROLLUPS : 0));
+
+        out.writeDecimal(result.getLoanAmount(), 0);
+        out.writeDecimal(result.getInterestRate(), 0);
+        out.writeDecimal(result.getMonthlyPayment(), 0);
+        out.writeDecimal(result.getTotalPayments(), 0);
+        out.writeDecimal(result.getTotalInterest(), 0);
+        out.writeDecimal(result.getTotalAmount(), 0);
+        out.writeVarLong(result.getTermMonths() != null ? result.getTermMonths() + 1L : 0);
+        if (result.getCalculatedAt() != null) {
+            Instant instant = result.getCalculatedAt().toInstant(ZoneOffset.UTC);
+            out.writeVarLong(zigzag(instant.getEpochSecond()));
+            out.writeVarLong(instant.getNano());
+        }
+
+        if (schedule != null) {
+            out.writeVarLong(schedule.size());
+            long[] previous = new long[5];
+            long previousEpochDay = 0;
+            for (AmortizationScheduleEntry entry : schedule) {
+                out.writeVarLong(entry.getMonth());
+                out.writeVarLong(entry.getPaymentNumber());
+                if (entry.getPaymentDate() == null) {
+                    out.writeVarLong(0);
+                } else {
+                    long epochDay = entry.getPaymentDate().toEpochDay();
+                    out.writeVarLong(zigzag(epochDay - previousEpochDay) + 1);
+                    previousEpochDay = epochDay;
+                }
+                previous[0] = out.writeDecimal(entry.getPaymentAmount(), previous[0]);
+                previous[1] = out.writeDecimal(entry.getPrincipal(), previous[1]);
+                previous[2] = out.writeDecimal(entry.getInterest(), previous[2]);
+                previous[3] = out.writeDecimal(entry.getRemainingBalance(), previous[3]);
+                previous[4] = out.writeDecimal(entry.getCumulativeInterest(), previous[4]);
+            }
+        }
+        if (result.getYearlyRollups() != null) {
+            writeRollups(out, result.getYearlyRollups());
+        }
+        if (result.getQuarterlyRollups() != null) {
+            writeRollups(out, result.getQuarterlyRollups());
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeRollups(Writer out, List<AmortizationRollup> rollups) {
+        out.writeVarLong(rollups.size());
+        for (AmortizationRollup rollup : rollups) {
+            out.writeVarLong(rollup.getPeriod());
+            out.writeVarLong(rollup.getFirstPaymentNumber());
+            out.writeVarLong(rollup.getLastPaymentNumber());
+            out.writeVarLong(rollup.getStartDate() != null ? zigzag(rollup.getStartDate().toEpochDay()) + 1 : 0);
+            out.writeVarLong(rollup.getEndDate() != null ? zigzag(rollup.getEndDate().toEpochDay()) + 1 : 0);
+            out.writeDecimal(rollup.getTotalPayments(), 0);
+            out.writeDecimal(rollup.getPrincipal(), 0);
+            out.writeDecimal(rollup.getInterest(), 0);
+            out.writeDecimal(rollup.getEndingBalance(), 0);
+        }
+    }
+
+    private static List<AmortizationRollup> readRollups(Reader in, int maxSize) {
+        int size = Math.toIntExact(in.readVarLong());
+        if (size > maxSize) {
+            throw new IllegalArgumentException("Corrupt loan calculation encoding");
+        }
+        List<AmortizationRollup> rollups = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            AmortizationRollup rollup = new AmortizationRollup();
+            rollup.setPeriod(Math.toIntExact(in.readVarLong()));
+            rollup.setFirstPaymentNumber(Math.toIntExact(in.readVarLong()));
+            rollup.setLastPaymentNumber(Math.toIntExact(in.readVarLong()));
+            rollup.setStartDate(readDate(in));
+            rollup.setEndDate(readDate(in));
+            rollup.setTotalPayments(in.readDecimal());
+            rollup.setPrincipal(in.readDecimal());
+            rollup.setInterest(in.readDecimal());
+            rollup.setEndingBalance(in.readDecimal());
+            rollups.add(rollup);
+        }
+        return rollups;
+    }
+
+    private static LocalDate readDate(Reader in) {
+        long value = in.readVarLong();
+        return value == 0 ? null : LocalDate.ofEpochDay(unzigzag(value - 1));
+    }
+
+    public static LoanCalculationResult decode(byte[] bytes) {
+        try {
+            Reader in = new Reader(bytes);
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported loan calculation encoding version");
+            }
+            int flags = in.readByte();
+
+            LoanCalculationResult result = new LoanCalculationResult();
+            result.setLoanAmount(in.readDecimal());
+            result.setInterestRate(in.readDecimal());
+            result.setMonthlyPayment(in.readDecimal());
+            result.setTotalPayments(in.readDecimal());
+            result.setTotalInterest(in.readDecimal());
+            result.setTotalAmount(in.readDecimal());
+            long termMonths = in.readVarLong();
+            result.setTermMonths(termMonths == 0 ? null : Math.toIntExact(termMonths - 1));
+            if ((flags & FLAG_CALCULATED_AT) != 0) {
+                long epochSecond = unzigzag(in.readVarLong());
+                int nanos = Math.toIntExact(in.readVarLong());
+                result.setCalculatedAt(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+            }
+
+            if ((flags & FLAG_SCHEDULE) != 0) {
+                int size = Math.toIntExact(in.readVarLong());
+                if (size > bytes.length) {
+                    throw new IllegalArgumentException("Corrupt loan calculation encoding");
+                }
+                List<AmortizationScheduleEntry> schedule = new ArrayList<>(size);
+                long[] payment = new long[1];
+                long[] principal = new long[1];
+                long[] interest = new long[1];
+                long[] balance = new long[1];
+                long[] cumulative = new long[1];
+                long epochDay = 0;
+                for (int i = 0; i < size; i++) {
+                    AmortizationScheduleEntry entry = new AmortizationScheduleEntry();
+                    entry.setMonth(Math.toIntExact(in.readVarLong()));
+                    entry.setPaymentNumber(Math.toIntExact(in.readVarLong()));
+                    long date = in.readVarLong();
+                    if (date != 0) {
+                        epochDay += unzigzag(date - 1);
+                        entry.setPaymentDate(LocalDate.ofEpochDay(epochDay));
+                    }
+                    entry.setPaymentAmount(in.readDecimal(payment));
+                    entry.setPrincipal(in.readDecimal(principal));
+                    entry.setInterest(in.readDecimal(interest));
+                    entry.setRemainingBalance(in.readDecimal(balance));
+                    entry.setCumulativeInterest(in.readDecimal(cumulative));
+                    schedule.add(entry);
+                }
+                CompactAmortizationSchedule compact = CompactAmortizationSchedule.fromEntries(schedule);
+                if (compact != null) {
+                    result.setCompactSchedule(compact);
+                } else {
+                    result.setAmortizationSchedule(schedule);
+                }
+            }
+            if ((flags & FLAG_YEARLY_ROLLUPS) != 0) {
+                result.setYearlyRollups(readRollups(in, bytes.length));
+            }
+            if ((flags & FLAG_QUARTERLY_ROLLUPS) != 0) {
+                result.setQuarterlyRollups(readRollups(in, bytes.length));
+            }
+            if (in.remaining() != 0) {
+                throw new IllegalArgumentException("Trailing bytes in loan calculation encoding");
+            }
+            return result;
+        } catch (ArrayIndexOutOfBoundsException | ArithmeticException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("Corrupt loan calculation encoding", e);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * Write a decimal as a delta from the previous unscaled value of the
+         * same column and return the new previous value.
+         */
+        long writeDecimal(BigDecimal value, long previous) {
+            if (value == null) {
+                writeByte(TAG_NULL);
+                return previous;
+            }
+            int scale = value.scale();
+            BigInteger unscaled = value.unscaledValue();
+            if (scale >= 0 && scale < MAX_INLINE_SCALE && unscaled.bitLength() < Long.SIZE) {
+                long unscaledLong = unscaled.longValue();
+                writeByte(scale);
+                writeVarLong(zigzag(unscaledLong - previous));
+                return unscaledLong;
+            }
+            byte[] magnitude = unscaled.toByteArray();
+            writeByte(TAG_BIG);
+            writeVarLong(zigzag(scale));
+            writeVarLong(magnitude.length);
+            ensureCapacity(magnitude.length);
+            System.arraycopy(magnitude, 0, buffer, position, magnitude.length);
+            position += magnitude.length;
+            return previous;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in loan calculation encoding");
+        }
+
+        BigDecimal readDecimal() {
+            return readDecimal(new long[1]);
+        }
+
+        /**
+         * Read a decimal written by {@link Writer#writeDecimal}, updating the
+         * column's previous unscaled value in place.
+         */
+        BigDecimal readDecimal(long[] previous) {
+            int tag = readByte();
+            if (tag == TAG_NULL) {
+                return null;
+            }
+            if (tag == TAG_BIG) {
+                int scale = Math.toIntExact(unzigzag(readVarLong()));
+                int length = Math.toIntExact(readVarLong());
+                if (length <= 0 || length > remaining()) {
+                    throw new IllegalArgumentException("Corrupt loan calculation encoding");
+                }
+                byte[] magnitude = Arrays.copyOfRange(buffer, position, position + length);
+                position += length;
+                return new BigDecimal(new BigInteger(magnitude), scale);
+            }
+            long unscaled = previous[0] + unzigzag(readVarLong());
+            previous[0] = unscaled;
+            return BigDecimal.valueOf(unscaled, tag);
+        }
+
+        int remaining() {
+            return buffer.length - position;
+        }
+    }
+}
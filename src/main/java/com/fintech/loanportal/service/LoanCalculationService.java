@@ -4,14 +4,37 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.AffordabilitySurface;
+import com.fintech.loanportal.dto.AffordabilitySurfaceRequest;
+import com.fintech.loanportal.dto.AmortizationRollup;
 import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.AmortizationSchedulePage;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
 import com.fintech.loanportal.dto.LoanCalculationRequest;
 import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.PaymentGrid;
+import com.fintech.loanportal.dto.PaymentGridRequest;
+import com.fintech.loanportal.dto.RollupPeriod;
 
 /**
  * Service for loan calculations including monthly payments and amortization schedules.
@@ -19,6 +42,7 @@ import com.fintech.loanportal.dto.LoanCalculationResult;
  * Features:
  * - Monthly payment calculation using standard loan formulas
  * - Complete amortization schedule generation
+ * - Quarterly and yearly roll-ups, optionally without the monthly rows
  * - Interest rate validation and formatting
  * - Caching for performance optimization
  * - Support for various loan types and terms
@@ -29,11 +53,17 @@ import com.fintech.loanportal.dto.LoanCalculationResult;
  *   where P = principal, r = monthly rate, n = number of payments
  * 
  * All calculations use BigDecimal for precision to avoid floating point errors
- * which are critical in financial applications.
+ * which are critical in financial applications. The FIXED_POINT engine performs
+ * the same arithmetic on scaled long cents (see {@link FixedPointLoanMath}).
+ * Both read payment factors from the {@link AnnuityFactorCache}; CROSS_CHECK
+ * checks them against an uncached BigDecimal reference. Engines sit
+ * behind {@link LoanCalculationEngine} and can be replaced by beans of that type.
  */
 @Service
 public class LoanCalculationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoanCalculationService.class);
+
     private static final int DECIMAL_PLACES = 2;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
     
@@ -45,36 +75,171 @@ public class LoanCalculationService {
     private static final BigDecimal MIN_LOAN_AMOUNT = new BigDecimal("1000.00");
     private static final BigDecimal MAX_LOAN_AMOUNT = new BigDecimal("10000000.00");
 
+    // Loan term bounds
+    private static final int MAX_TERM_MONTHS = 480;  // 40 years
+
+    // Upper bound on cells for a single grid or surface request
+    private static final int MAX_GRID_CELLS = 20_000;
+
+    private static final long[] POWERS_OF_TEN = LongStream.iterate(1, p -> p * 10).limit(19).toArray();
+
+    // Defaults for the affordability surface
+    private static final List<Integer> STANDARD_TERMS = List.of(12, 24, 36, 48, 60, 72, 84, 120, 180, 240, 300, 360);
+    private static final List<BigDecimal> STANDARD_DTI_RATIOS = List.of(
+        new BigDecimal("0.28"), new BigDecimal("0.36"), new BigDecimal("0.43"), new BigDecimal("0.50"));
+
+    @Value("${app.loan.calculation.engine:BIG_DECIMAL}")
+    private AmortizationEngine engine = AmortizationEngine.BIG_DECIMAL;
+
+    private final AnnuityFactorCache annuityFactorCache;
+
+    @Autowired(required = false)
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    private final Map<AmortizationEngine, LoanCalculationEngine> calculationEngines = new EnumMap<>(Map.of(
+        AmortizationEngine.BIG_DECIMAL, new BigDecimalEngine(),
+        AmortizationEngine.FIXED_POINT, new FixedPointEngine(),
+        AmortizationEngine.CROSS_CHECK, new CrossCheckEngine()));
+
+    public LoanCalculationService(AnnuityFactorCache annuityFactorCache) {
+        this.annuityFactorCache = annuityFactorCache;
+    }
+
     /**
-     * Calculate loan payment details and amortization schedule.
-     * Results are cached based on input parameters for performance.
+     * Calculate loan payment details and amortization schedule with the
+     * configured engine. Results are cached on the normalized request (see
+     * {@link LoanCalculationKey}); every engine produces the same values, so
+     * the cache is shared between them.
      */
-    @Cacheable(value = "loanCalculations", key = "#request.loanAmount + '_' + #request.interestRate + '_' + #request.termMonths")
+    @Cacheable(value = "loanCalculations", keyGenerator = "loanCalculationKeyGenerator")
     public LoanCalculationResult calculateLoan(LoanCalculationRequest request) {
         validateLoanRequest(request);
-        
+        return calculationEngines.get(engine).calculate(request);
+    }
+
+    /**
+     * Calculate with the given engine, bypassing the cache.
+     */
+    public LoanCalculationResult calculateLoan(LoanCalculationRequest request, AmortizationEngine type) {
+        validateLoanRequest(request);
+        return getCalculationEngine(type).calculate(request);
+    }
+
+    public LoanCalculationEngine getCalculationEngine(AmortizationEngine type) {
+        return calculationEngines.get(Objects.requireNonNull(type, "Engine type is required"));
+    }
+
+    /**
+     * Replace built-in engines with application-provided ones of the same type.
+     */
+    @Autowired(required = false)
+    void setCalculationEngines(List<LoanCalculationEngine> engines) {
+        for (LoanCalculationEngine calculationEngine : engines) {
+            calculationEngines.put(calculationEngine.getType(), calculationEngine);
+        }
+    }
+
+    AmortizationEngine getEngine() {
+        return engine;
+    }
+
+    void setEngine(AmortizationEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * BigDecimal arithmetic throughout, with the payment factor read from the
+     * annuity factor cache (the cached factor equals the BigDecimal formula's).
+     */
+    private final class BigDecimalEngine implements LoanCalculationEngine {
+
+        @Override
+        public AmortizationEngine getType() {
+            return AmortizationEngine.BIG_DECIMAL;
+        }
+
+        @Override
+        public LoanCalculationResult calculate(LoanCalculationRequest request) {
+            return calculateLoanBigDecimal(request);
+        }
+    }
+
+    /**
+     * Long-cents engine; amounts with sub-cent digits fall back to BigDecimal.
+     */
+    private final class FixedPointEngine implements LoanCalculationEngine {
+
+        @Override
+        public AmortizationEngine getType() {
+            return AmortizationEngine.FIXED_POINT;
+        }
+
+        @Override
+        public LoanCalculationResult calculate(LoanCalculationRequest request) {
+            return canUseFixedPoint(request) ? calculateLoanFixedPoint(request) : calculateLoanBigDecimal(request);
+        }
+    }
+
+    /**
+     * Computes an independent reference with BigDecimal pow() and no cache,
+     * checks the current BIG_DECIMAL and FIXED_POINT engines against it,
+     * logging any divergence, and returns the reference result.
+     */
+    private final class CrossCheckEngine implements LoanCalculationEngine {
+
+        @Override
+        public AmortizationEngine getType() {
+            return AmortizationEngine.CROSS_CHECK;
+        }
+
+        @Override
+        public LoanCalculationResult calculate(LoanCalculationRequest request) {
+            LoanCalculationResult reference = calculateLoanBigDecimal(request, request.isIncludeSchedule(),
+                request.getRollups(), false);
+            crossCheck(request, reference, AmortizationEngine.BIG_DECIMAL);
+            if (canUseFixedPoint(request)) {
+                crossCheck(request, reference, AmortizationEngine.FIXED_POINT);
+            }
+            return reference;
+        }
+    }
+
+    private LoanCalculationResult calculateLoanBigDecimal(LoanCalculationRequest request) {
+        return calculateLoanBigDecimal(request, request.isIncludeSchedule(), request.getRollups(), true);
+    }
+
+    private LoanCalculationResult calculateLoanBigDecimal(LoanCalculationRequest request, boolean includeSchedule,
+                                                          Set<RollupPeriod> rollupPeriods, boolean cachedFactor) {
         BigDecimal loanAmount = request.getLoanAmount();
         BigDecimal annualRate = request.getInterestRate();
         int termMonths = request.getLoanTermMonths();
         
         // Convert annual rate to monthly decimal rate
-        BigDecimal monthlyRate = annualRate
-            .divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)  // Convert percentage to decimal
-            .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);   // Convert annual to monthly
+        BigDecimal monthlyRate = toMonthlyRate(annualRate);
         
         // Calculate monthly payment using loan payment formula
-        BigDecimal monthlyPayment = calculateMonthlyPayment(loanAmount, monthlyRate, termMonths);
-        
-        // Generate complete amortization schedule
-        List<AmortizationScheduleEntry> schedule = generateAmortizationSchedule(
-            loanAmount, monthlyRate, monthlyPayment, termMonths, request.getStartDate()
-        );
+        BigDecimal monthlyPayment = cachedFactor
+            ? calculateMonthlyPayment(loanAmount, monthlyRate, termMonths)
+            : referenceMonthlyPayment(loanAmount, monthlyRate, termMonths);
+        
+        // Generate complete amortization schedule, rolling up periods in the same pass.
+        // Results are cached, so whole-cent loans (whose rows are whole cents too)
+        // keep the schedule in primitive-array form from the start
+        LocalDate firstPaymentDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
+        AmortizationRollups rollups = AmortizationRollups.of(rollupPeriods, firstPaymentDate, termMonths);
+        CompactAmortizationSchedule compact = includeSchedule && canUseFixedPoint(loanAmount)
+            ? new CompactAmortizationSchedule(termMonths) : null;
+        List<AmortizationScheduleEntry> schedule = includeSchedule && compact == null
+            ? new ArrayList<>(termMonths) : null;
+        generateAmortizationSchedule(loanAmount, monthlyRate, monthlyPayment, termMonths, firstPaymentDate,
+            schedule, compact, rollups);
         
         // Calculate totals
         BigDecimal totalPayments = monthlyPayment.multiply(BigDecimal.valueOf(termMonths));
         BigDecimal totalInterest = totalPayments.subtract(loanAmount);
         
-        return LoanCalculationResult.builder()
+        LoanCalculationResult result = LoanCalculationResult.builder()
             .loanAmount(loanAmount)
             .interestRate(annualRate)
             .termMonths(termMonths)
@@ -84,13 +249,329 @@ public class LoanCalculationService {
             .amortizationSchedule(schedule)
             .calculatedAt(java.time.LocalDateTime.now())
             .build();
+        if (compact != null) {
+            result.setCompactSchedule(compact);
+        }
+        if (rollups != null) {
+            rollups.applyTo(result);
+        }
+        return result;
     }
 
     /**
-     * Calculate monthly payment using the standard loan payment formula.
-     * 
-     * Formula: P * [r(1+r)^n] / [(1+r)^n - 1]
-     * where P = principal, r = monthly rate, n = number of payments
+     * Fixed-point variant of the calculation. Produces the same values as the
+     * BigDecimal engine without per-row BigDecimal arithmetic.
+     */
+    private LoanCalculationResult calculateLoanFixedPoint(LoanCalculationRequest request) {
+        BigDecimal loanAmount = request.getLoanAmount();
+        int termMonths = request.getLoanTermMonths();
+        long principalCents = FixedPointLoanMath.toCents(loanAmount);
+        long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(request.getInterestRate());
+        long paymentCents = fixedPointPaymentCents(principalCents, monthlyRateE8, termMonths);
+
+        CompactAmortizationSchedule schedule = request.isIncludeSchedule()
+            ? new CompactAmortizationSchedule(termMonths) : null;
+        LocalDate paymentDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
+        AmortizationRollups rollups = AmortizationRollups.of(request.getRollups(), paymentDate, termMonths);
+        AmortizationCursor cursor = new AmortizationCursor(principalCents, monthlyRateE8, paymentCents, termMonths);
+        while (cursor.next()) {
+            long balanceCents = Math.max(cursor.getBalanceCents(), 0);
+            if (schedule != null) {
+                schedule.add(cursor.getPaymentCents(), cursor.getPrincipalPaymentCents(),
+                    cursor.getInterestPaymentCents(), balanceCents, cursor.getCumulativeInterestCents(),
+                    paymentDate.plusMonths(cursor.getPaymentNumber() - 1));
+            }
+            if (rollups != null) {
+                rollups.add(cursor.getPaymentNumber(), cursor.getPaymentCents(), cursor.getPrincipalPaymentCents(),
+                    cursor.getInterestPaymentCents(), balanceCents);
+            }
+        }
+
+        BigDecimal monthlyPayment = FixedPointLoanMath.fromCents(paymentCents);
+        BigDecimal totalPayments = FixedPointLoanMath.fromCents(paymentCents * termMonths);
+
+        LoanCalculationResult result = LoanCalculationResult.builder()
+            .loanAmount(loanAmount)
+            .interestRate(request.getInterestRate())
+            .termMonths(termMonths)
+            .monthlyPayment(monthlyPayment)
+            .totalPayments(totalPayments)
+            .totalInterest(totalPayments.subtract(loanAmount))
+            .compactSchedule(schedule)
+            .calculatedAt(java.time.LocalDateTime.now())
+            .build();
+        if (rollups != null) {
+            rollups.applyTo(result);
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the payment and totals without generating the schedule.
+     * The values are identical to those returned by {@link #calculateLoan}.
+     */
+    public LoanCalculationResult calculateLoanSummary(LoanCalculationRequest request) {
+        validateLoanRequest(request);
+
+        BigDecimal loanAmount = request.getLoanAmount();
+        int termMonths = request.getLoanTermMonths();
+        BigDecimal monthlyPayment;
+        if (useFixedPoint(request)) {
+            long principalCents = FixedPointLoanMath.toCents(loanAmount);
+            long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(request.getInterestRate());
+            monthlyPayment = FixedPointLoanMath.fromCents(
+                fixedPointPaymentCents(principalCents, monthlyRateE8, termMonths));
+        } else {
+            monthlyPayment = calculateMonthlyPayment(loanAmount, toMonthlyRate(request.getInterestRate()), termMonths);
+        }
+        BigDecimal totalPayments = monthlyPayment.multiply(BigDecimal.valueOf(termMonths));
+
+        return LoanCalculationResult.builder()
+            .loanAmount(loanAmount)
+            .interestRate(request.getInterestRate())
+            .termMonths(termMonths)
+            .monthlyPayment(monthlyPayment)
+            .totalPayments(totalPayments)
+            .totalInterest(totalPayments.subtract(loanAmount))
+            .calculatedAt(java.time.LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * Lazily generate the amortization schedule. Each call to {@code next()}
+     * computes one row, so streaming callers use constant memory regardless of
+     * the loan term.
+     */
+    public Iterator<AmortizationScheduleEntry> scheduleIterator(LoanCalculationRequest request) {
+        validateLoanRequest(request);
+
+        int termMonths = request.getLoanTermMonths();
+        if (useFixedPoint(request)) {
+            long principalCents = FixedPointLoanMath.toCents(request.getLoanAmount());
+            long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(request.getInterestRate());
+            long paymentCents = fixedPointPaymentCents(principalCents, monthlyRateE8, termMonths);
+            return new FixedPointScheduleIterator(
+                new AmortizationCursor(principalCents, monthlyRateE8, paymentCents, termMonths), request.getStartDate());
+        }
+        BigDecimal monthlyRate = toMonthlyRate(request.getInterestRate());
+        BigDecimal monthlyPayment = calculateMonthlyPayment(request.getLoanAmount(), monthlyRate, termMonths);
+        return new BigDecimalScheduleIterator(
+            request.getLoanAmount(), monthlyRate, monthlyPayment, termMonths, request.getStartDate());
+    }
+
+    /**
+     * Return one page of the amortization schedule without building the rest.
+     *
+     * Rows are produced by {@link AmortizationCursor}, which fast-forwards to
+     * the offset with primitive arithmetic only, so the values are identical to
+     * the corresponding rows of {@link #calculateLoan}.
+     */
+    public AmortizationSchedulePage getSchedulePage(LoanCalculationRequest request, int offset, int limit) {
+        validateLoanRequest(request);
+        int termMonths = request.getLoanTermMonths();
+        if (offset < 0 || offset > termMonths) {
+            throw new IllegalArgumentException("Offset must be between 0 and " + termMonths);
+        }
+        if (limit <= 0 || limit > MAX_TERM_MONTHS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TERM_MONTHS);
+        }
+
+        if (!canUseFixedPoint(request)) {
+            LoanCalculationResult result = calculateLoanBigDecimal(request, true, null, true);
+            List<AmortizationScheduleEntry> rows = result.getAmortizationSchedule();
+            return new AmortizationSchedulePage(offset, limit, termMonths, result.getMonthlyPayment(),
+                new ArrayList<>(rows.subList(offset, Math.min(offset + limit, termMonths))));
+        }
+
+        long principalCents = FixedPointLoanMath.toCents(request.getLoanAmount());
+        long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(request.getInterestRate());
+        long paymentCents = fixedPointPaymentCents(principalCents, monthlyRateE8, termMonths);
+        LocalDate paymentDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
+
+        AmortizationCursor cursor = new AmortizationCursor(principalCents, monthlyRateE8, paymentCents, termMonths);
+        cursor.seek(offset);
+        List<AmortizationScheduleEntry> entries = new ArrayList<>(Math.min(limit, termMonths - offset));
+        while (entries.size() < limit && cursor.next()) {
+            entries.add(toScheduleEntry(cursor, paymentDate));
+        }
+        return new AmortizationSchedulePage(offset, limit, termMonths, FixedPointLoanMath.fromCents(paymentCents), entries);
+    }
+
+    /**
+     * Calculate monthly payment and total interest for one principal across
+     * every combination of the given rates and terms.
+     *
+     * Each rate is one row. Every cell reads its payment factor from the shared
+     * {@link AnnuityFactorCache}, so a (rate, term) pair already priced by any
+     * earlier request costs a table lookup instead of a power. Rows are
+     * independent and run in parallel on the loan calculation pool.
+     * Every cell equals the payment {@link #calculateLoan} would return.
+     */
+    public PaymentGrid calculatePaymentGrid(PaymentGridRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Payment grid request cannot be null");
+        }
+        BigDecimal loanAmount = request.getLoanAmount();
+        List<BigDecimal> rates = request.getInterestRates();
+        List<Integer> terms = request.getTermMonths();
+        validateAmount(loanAmount, "Loan amount");
+        if (!canUseFixedPoint(loanAmount)) {
+            throw new IllegalArgumentException("Loan amount cannot have more than two decimal places");
+        }
+        if (rates == null || rates.isEmpty() || terms == null || terms.isEmpty()) {
+            throw new IllegalArgumentException("At least one interest rate and one loan term are required");
+        }
+        if ((long) rates.size() * terms.size() > MAX_GRID_CELLS) {
+            throw new IllegalArgumentException("Payment grid cannot exceed " + MAX_GRID_CELLS + " cells");
+        }
+        rates.forEach(this::validateInterestRate);
+        terms.forEach(this::validateLoanTerm);
+
+        long principalCents = FixedPointLoanMath.toCents(loanAmount);
+        int[] termMonths = terms.stream().mapToInt(Integer::intValue).toArray();
+        long[][] payments = new long[rates.size()][termMonths.length];
+        long[][] interest = new long[rates.size()][termMonths.length];
+
+        IntStream rows = IntStream.range(0, rates.size());
+        if (loanCalculationPool == null || rates.size() == 1) {
+            rows.forEach(i -> fillGridRow(principalCents, FixedPointLoanMath.monthlyRateE8(rates.get(i)),
+                termMonths, payments[i], interest[i]));
+        } else {
+            CalculationConfig.runOnPool(loanCalculationPool, () -> rows.parallel().forEach(i -> fillGridRow(
+                principalCents, FixedPointLoanMath.monthlyRateE8(rates.get(i)), termMonths, payments[i], interest[i])),
+                "Payment grid");
+        }
+        return new PaymentGrid(loanAmount, List.copyOf(rates), termMonths, payments, interest);
+    }
+
+    private void fillGridRow(long principalCents, long monthlyRateE8, int[] termMonths, long[] payments,
+                             long[] interest) {
+        for (int i = 0; i < termMonths.length; i++) {
+            long paymentCents = fixedPointPaymentCents(principalCents, monthlyRateE8, termMonths[i]);
+            payments[i] = paymentCents;
+            interest[i] = paymentCents * termMonths[i] - principalCents;
+        }
+    }
+
+    private static AmortizationScheduleEntry toScheduleEntry(AmortizationCursor cursor, LocalDate firstPaymentDate) {
+        return AmortizationScheduleEntry.builder()
+            .paymentNumber(cursor.getPaymentNumber())
+            .paymentDate(firstPaymentDate.plusMonths(cursor.getPaymentNumber() - 1))
+            .paymentAmount(FixedPointLoanMath.fromCents(cursor.getPaymentCents()))
+            .principalPayment(FixedPointLoanMath.fromCents(cursor.getPrincipalPaymentCents()))
+            .interestPayment(FixedPointLoanMath.fromCents(cursor.getInterestPaymentCents()))
+            .remainingBalance(FixedPointLoanMath.fromCents(Math.max(cursor.getBalanceCents(), 0)))  // Ensure never negative
+            .cumulativeInterest(FixedPointLoanMath.fromCents(cursor.getCumulativeInterestCents()))
+            .build();
+    }
+
+    /**
+     * The fixed-point engine works in whole cents, so amounts with sub-cent
+     * precision are left to the BigDecimal engine.
+     */
+    private boolean canUseFixedPoint(LoanCalculationRequest request) {
+        return canUseFixedPoint(request.getLoanAmount());
+    }
+
+    private static boolean canUseFixedPoint(BigDecimal loanAmount) {
+        return FixedPointLoanMath.isCentAligned(loanAmount);
+    }
+
+    private boolean useFixedPoint(LoanCalculationRequest request) {
+        return engine == AmortizationEngine.FIXED_POINT && canUseFixedPoint(request);
+    }
+
+    private void crossCheck(LoanCalculationRequest request, LoanCalculationResult reference,
+                            AmortizationEngine candidate) {
+        String mismatch = findMismatch(reference, calculationEngines.get(candidate).calculate(request));
+        if (mismatch != null) {
+            logger.warn("{} engine diverged from the uncached reference for amount={}, rate={}, term={}: {}",
+                candidate, request.getLoanAmount(), request.getInterestRate(), request.getLoanTermMonths(), mismatch);
+        }
+    }
+
+    /**
+     * Compare two results value by value, ignoring scale and calculation time.
+     *
+     * @return a description of the first difference, or null if they match
+     */
+    static String findMismatch(LoanCalculationResult expected, LoanCalculationResult actual) {
+        if (!sameAmount(expected.getMonthlyPayment(), actual.getMonthlyPayment())) {
+            return "monthlyPayment " + expected.getMonthlyPayment() + " != " + actual.getMonthlyPayment();
+        }
+        if (!sameAmount(expected.getTotalPayments(), actual.getTotalPayments())) {
+            return "totalPayments " + expected.getTotalPayments() + " != " + actual.getTotalPayments();
+        }
+        if (!sameAmount(expected.getTotalInterest(), actual.getTotalInterest())) {
+            return "totalInterest " + expected.getTotalInterest() + " != " + actual.getTotalInterest();
+        }
+        String rollupMismatch = findRollupMismatch("yearly", expected.getYearlyRollups(), actual.getYearlyRollups());
+        if (rollupMismatch == null) {
+            rollupMismatch = findRollupMismatch("quarterly", expected.getQuarterlyRollups(), actual.getQuarterlyRollups());
+        }
+        if (rollupMismatch != null) {
+            return rollupMismatch;
+        }
+        List<AmortizationScheduleEntry> expectedRows = expected.getAmortizationSchedule();
+        List<AmortizationScheduleEntry> actualRows = actual.getAmortizationSchedule();
+        if (expectedRows == null || actualRows == null) {
+            return expectedRows == actualRows ? null : "schedule present in only one result";
+        }
+        if (expectedRows.size() != actualRows.size()) {
+            return "schedule length " + expectedRows.size() + " != " + actualRows.size();
+        }
+        for (int i = 0; i < expectedRows.size(); i++) {
+            AmortizationScheduleEntry e = expectedRows.get(i);
+            AmortizationScheduleEntry a = actualRows.get(i);
+            if (e.getPaymentNumber() != a.getPaymentNumber()
+                    || !Objects.equals(e.getPaymentDate(), a.getPaymentDate())
+                    || !sameAmount(e.getPaymentAmount(), a.getPaymentAmount())
+                    || !sameAmount(e.getPrincipal(), a.getPrincipal())
+                    || !sameAmount(e.getInterest(), a.getInterest())
+                    || !sameAmount(e.getRemainingBalance(), a.getRemainingBalance())
+                    || !sameAmount(e.getCumulativeInterest(), a.getCumulativeInterest())) {
+                return "schedule row " + e.getPaymentNumber() + " differs";
+            }
+        }
+        return null;
+    }
+
+    private static String findRollupMismatch(String name, List<AmortizationRollup> expected,
+                                             List<AmortizationRollup> actual) {
+        if (expected == null || actual == null) {
+            return expected == actual ? null : name + " roll-ups present in only one result";
+        }
+        if (expected.size() != actual.size()) {
+            return name + " roll-up count " + expected.size() + " != " + actual.size();
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            AmortizationRollup e = expected.get(i);
+            AmortizationRollup a = actual.get(i);
+            if (e.getLastPaymentNumber() != a.getLastPaymentNumber()
+                    || !sameAmount(e.getTotalPayments(), a.getTotalPayments())
+                    || !sameAmount(e.getPrincipal(), a.getPrincipal())
+                    || !sameAmount(e.getInterest(), a.getInterest())
+                    || !sameAmount(e.getEndingBalance(), a.getEndingBalance())) {
+                return name + " roll-up " + e.getPeriod() + " differs";
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static BigDecimal toMonthlyRate(BigDecimal annualRate) {
+        return annualRate
+            .divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)  // Convert percentage to decimal
+            .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);   // Convert annual to monthly
+    }
+
+    /**
+     * Calculate monthly payment using the standard loan payment formula,
+     * with the scale-8 factor r(1+r)^n / [(1+r)^n - 1] looked up in the
+     * annuity factor cache instead of recomputing the power.
      * 
      * Special case: If interest rate is 0, monthly payment = principal / term
      */
@@ -100,6 +581,25 @@ public class LoanCalculationService {
             return principal.divide(BigDecimal.valueOf(termMonths), DECIMAL_PLACES, ROUNDING_MODE);
         }
         
+        long factorE8 = annuityFactorCache.paymentFactorE8(toRateE8(monthlyRate), termMonths);
+        BigDecimal monthlyPayment = principal.multiply(BigDecimal.valueOf(factorE8, FixedPointLoanMath.RATE_DECIMALS));
+        
+        return monthlyPayment.setScale(DECIMAL_PLACES, ROUNDING_MODE);
+    }
+
+    /**
+     * Uncached reference for {@link #calculateMonthlyPayment}, used by the
+     * CROSS_CHECK engine.
+     * 
+     * Formula: P * [r(1+r)^n] / [(1+r)^n - 1]
+     * where P = principal, r = monthly rate, n = number of payments
+     */
+    private static BigDecimal referenceMonthlyPayment(BigDecimal principal, BigDecimal monthlyRate, int termMonths) {
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            // No interest loan - simple division
+            return principal.divide(BigDecimal.valueOf(termMonths), DECIMAL_PLACES, ROUNDING_MODE);
+        }
+        
         // Calculate (1 + r)^n
         BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
         BigDecimal onePlusRatePowerN = onePlusRate.pow(termMonths);
@@ -116,6 +616,22 @@ public class LoanCalculationService {
         return monthlyPayment.setScale(DECIMAL_PLACES, ROUNDING_MODE);
     }
 
+    private long fixedPointPaymentCents(long principalCents, long monthlyRateE8, int termMonths) {
+        return annuityFactorCache.monthlyPaymentCents(principalCents, monthlyRateE8, termMonths);
+    }
+
+    /**
+     * Cents for roll-up totals. Rows only carry sub-cent digits when the
+     * principal itself does, and those are rounded per row.
+     */
+    private static long roundToCents(BigDecimal amount) {
+        return FixedPointLoanMath.toCents(amount.setScale(DECIMAL_PLACES, ROUNDING_MODE));
+    }
+
+    private static long toRateE8(BigDecimal monthlyRate) {
+        return monthlyRate.movePointRight(FixedPointLoanMath.RATE_DECIMALS).longValueExact();
+    }
+
     /**
      * Generate complete amortization schedule showing payment breakdown for each month.
      * 
@@ -125,49 +641,126 @@ public class LoanCalculationService {
      * - Principal payment (monthly payment - interest payment)
      * - Remaining balance after payment
      * - Cumulative interest paid
+     *
+     * Rows are appended to whichever of {@code schedule} (any amounts) and
+     * {@code compact} (whole cents only) is given, and fed to {@code rollups}.
      */
-    private List<AmortizationScheduleEntry> generateAmortizationSchedule(
+    private void generateAmortizationSchedule(
             BigDecimal loanAmount, BigDecimal monthlyRate, BigDecimal monthlyPayment, 
-            int termMonths, LocalDate startDate) {
-        
-        List<AmortizationScheduleEntry> schedule = new ArrayList<>();
-        BigDecimal remainingBalance = loanAmount;
-        BigDecimal cumulativeInterest = BigDecimal.ZERO;
-        LocalDate paymentDate = startDate != null ? startDate : LocalDate.now();
-        
-        for (int paymentNumber = 1; paymentNumber <= termMonths; paymentNumber++) {
+            int termMonths, LocalDate startDate, List<AmortizationScheduleEntry> schedule,
+            CompactAmortizationSchedule compact, AmortizationRollups rollups) {
+        
+        Iterator<AmortizationScheduleEntry> rows = new BigDecimalScheduleIterator(
+            loanAmount, monthlyRate, monthlyPayment, termMonths, startDate);
+        while (rows.hasNext()) {
+            AmortizationScheduleEntry row = rows.next();
+            if (schedule != null) {
+                schedule.add(row);
+            }
+            if (compact != null) {
+                compact.add(FixedPointLoanMath.toCents(row.getPaymentAmount()),
+                    FixedPointLoanMath.toCents(row.getPrincipal()), FixedPointLoanMath.toCents(row.getInterest()),
+                    FixedPointLoanMath.toCents(row.getRemainingBalance()),
+                    FixedPointLoanMath.toCents(row.getCumulativeInterest()), row.getPaymentDate());
+            }
+            if (rollups != null) {
+                rollups.add(row.getPaymentNumber(), roundToCents(row.getPaymentAmount()),
+                    roundToCents(row.getPrincipal()), roundToCents(row.getInterest()),
+                    roundToCents(row.getRemainingBalance()));
+            }
+        }
+    }
+
+    /**
+     * Produces BigDecimal schedule rows one at a time, so callers that stream
+     * the schedule never hold more than the current row.
+     */
+    private static final class BigDecimalScheduleIterator implements Iterator<AmortizationScheduleEntry> {
+
+        private final BigDecimal monthlyRate;
+        private final BigDecimal monthlyPayment;
+        private final int termMonths;
+        private final LocalDate paymentDate;
+        private BigDecimal remainingBalance;
+        private BigDecimal cumulativeInterest = BigDecimal.ZERO;
+        private int paymentNumber;
+
+        BigDecimalScheduleIterator(BigDecimal loanAmount, BigDecimal monthlyRate, BigDecimal monthlyPayment,
+                                   int termMonths, LocalDate startDate) {
+            this.monthlyRate = monthlyRate;
+            this.monthlyPayment = monthlyPayment;
+            this.termMonths = termMonths;
+            this.paymentDate = startDate != null ? startDate : LocalDate.now();
+            this.remainingBalance = loanAmount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return paymentNumber < termMonths;
+        }
+
+        @Override
+        public AmortizationScheduleEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            paymentNumber++;
+            BigDecimal paymentAmount = monthlyPayment;
+
             // Calculate interest payment for this month
             BigDecimal interestPayment = remainingBalance.multiply(monthlyRate)
                 .setScale(DECIMAL_PLACES, ROUNDING_MODE);
             
             // Calculate principal payment
-            BigDecimal principalPayment = monthlyPayment.subtract(interestPayment);
+            BigDecimal principalPayment = paymentAmount.subtract(interestPayment);
             
             // Adjust for final payment to ensure exact payoff
             if (paymentNumber == termMonths && principalPayment.compareTo(remainingBalance) != 0) {
                 principalPayment = remainingBalance;
-                monthlyPayment = principalPayment.add(interestPayment);
+                paymentAmount = principalPayment.add(interestPayment);
             }
             
             // Update remaining balance
             remainingBalance = remainingBalance.subtract(principalPayment);
             cumulativeInterest = cumulativeInterest.add(interestPayment);
             
-            // Create schedule entry
-            AmortizationScheduleEntry entry = AmortizationScheduleEntry.builder()
+            return AmortizationScheduleEntry.builder()
                 .paymentNumber(paymentNumber)
                 .paymentDate(paymentDate.plusMonths(paymentNumber - 1))
-                .paymentAmount(monthlyPayment)
+                .paymentAmount(paymentAmount)
                 .principalPayment(principalPayment)
                 .interestPayment(interestPayment)
                 .remainingBalance(remainingBalance.max(BigDecimal.ZERO)) // Ensure never negative
                 .cumulativeInterest(cumulativeInterest)
                 .build();
-            
-            schedule.add(entry);
         }
-        
-        return schedule;
+    }
+
+    /**
+     * Fixed-point counterpart of {@link BigDecimalScheduleIterator}.
+     */
+    private static final class FixedPointScheduleIterator implements Iterator<AmortizationScheduleEntry> {
+
+        private final AmortizationCursor cursor;
+        private final LocalDate paymentDate;
+
+        FixedPointScheduleIterator(AmortizationCursor cursor, LocalDate startDate) {
+            this.cursor = cursor;
+            this.paymentDate = startDate != null ? startDate : LocalDate.now();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext();
+        }
+
+        @Override
+        public AmortizationScheduleEntry next() {
+            if (!cursor.next()) {
+                throw new NoSuchElementException();
+            }
+            return toScheduleEntry(cursor, paymentDate);
+        }
     }
 
     /**
@@ -230,23 +823,103 @@ public class LoanCalculationService {
         }
         
         // Calculate maximum loan amount that results in this monthly payment
-        BigDecimal monthlyRate = interestRate
-            .divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
-            .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);
+        BigDecimal monthlyRate = toMonthlyRate(interestRate);
         
         if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
             return maxMonthlyPayment.multiply(BigDecimal.valueOf(termMonths));
         }
         
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRatePowerN = onePlusRate.pow(termMonths);
-        BigDecimal numerator = onePlusRatePowerN.subtract(BigDecimal.ONE);
-        BigDecimal denominator = monthlyRate.multiply(onePlusRatePowerN);
+        // [(1+r)^n - 1] / [r(1+r)^n] at scale 8, shared with the payment formula's cache
+        long factorE8 = annuityFactorCache.affordabilityFactorE8(toRateE8(monthlyRate), termMonths);
         
-        return maxMonthlyPayment.multiply(numerator.divide(denominator, 8, RoundingMode.HALF_UP))
+        return maxMonthlyPayment.multiply(BigDecimal.valueOf(factorE8, FixedPointLoanMath.RATE_DECIMALS))
             .setScale(DECIMAL_PLACES, ROUNDING_MODE);
     }
 
+    /**
+     * Maximum affordable principal for every loan type in
+     * {@link #getCurrentInterestRates()}, every term and every DTI cap.
+     *
+     * Equivalent to calling {@link #calculateMaxAffordableLoan} for each cell,
+     * but the affordable payment is computed once per DTI cap and the annuity
+     * factor once per (rate, term), so each cell is a single multiply and round.
+     * Loan types are returned in alphabetical order.
+     */
+    public AffordabilitySurface calculateAffordabilitySurface(AffordabilitySurfaceRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Affordability request cannot be null");
+        }
+        validateAmount(request.getMonthlyIncome(), "Monthly income");
+        List<Integer> terms = request.getTermMonths() != null && !request.getTermMonths().isEmpty()
+            ? request.getTermMonths() : STANDARD_TERMS;
+        List<BigDecimal> ratios = request.getDebtToIncomeRatios() != null && !request.getDebtToIncomeRatios().isEmpty()
+            ? request.getDebtToIncomeRatios() : STANDARD_DTI_RATIOS;
+        terms.forEach(this::validateLoanTerm);
+        for (BigDecimal ratio : ratios) {
+            if (ratio == null || ratio.signum() <= 0 || ratio.compareTo(BigDecimal.ONE) > 0) {
+                throw new IllegalArgumentException("Debt-to-income ratio must be greater than 0 and at most 1");
+            }
+        }
+
+        java.util.Map<String, BigDecimal> ratesByType = new java.util.TreeMap<>(getCurrentInterestRates());
+        if ((long) ratesByType.size() * terms.size() * ratios.size() > MAX_GRID_CELLS) {
+            throw new IllegalArgumentException("Affordability surface cannot exceed " + MAX_GRID_CELLS + " cells");
+        }
+        List<String> loanTypes = List.copyOf(ratesByType.keySet());
+        List<BigDecimal> rates = List.copyOf(ratesByType.values());
+        rates.forEach(this::validateInterestRate);
+        int[] termMonths = terms.stream().mapToInt(Integer::intValue).toArray();
+
+        // Annuity factors depend only on (rate, term): shared by every DTI slice
+        long[] monthlyRatesE8 = new long[rates.size()];
+        long[][] factorsE8 = new long[rates.size()][termMonths.length];
+        for (int r = 0; r < rates.size(); r++) {
+            monthlyRatesE8[r] = toRateE8(toMonthlyRate(rates.get(r)));
+            for (int t = 0; t < termMonths.length; t++) {
+                factorsE8[r][t] = monthlyRatesE8[r] == 0
+                    ? 0 : annuityFactorCache.affordabilityFactorE8(monthlyRatesE8[r], termMonths[t]);
+            }
+        }
+
+        long[][][] cells = new long[ratios.size()][rates.size()][termMonths.length];
+        for (int d = 0; d < ratios.size(); d++) {
+            BigDecimal maxMonthlyPayment = request.getMonthlyIncome().multiply(ratios.get(d));
+            if (request.getExistingDebt() != null && request.getExistingDebt().compareTo(BigDecimal.ZERO) > 0) {
+                maxMonthlyPayment = maxMonthlyPayment.subtract(request.getExistingDebt());
+            }
+            if (maxMonthlyPayment.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;  // Cannot afford any loan at this cap; cells stay zero
+            }
+            for (int r = 0; r < rates.size(); r++) {
+                for (int t = 0; t < termMonths.length; t++) {
+                    cells[d][r][t] = monthlyRatesE8[r] == 0
+                        ? FixedPointLoanMath.toCents(maxMonthlyPayment.multiply(BigDecimal.valueOf(termMonths[t]))
+                            .setScale(DECIMAL_PLACES, ROUNDING_MODE))
+                        : applyAffordabilityFactor(maxMonthlyPayment, factorsE8[r][t]);
+                }
+            }
+        }
+        return new AffordabilitySurface(loanTypes, rates, termMonths, List.copyOf(ratios), cells);
+    }
+
+    /**
+     * payment x factor rounded HALF_UP to cents, in long arithmetic when the
+     * product fits and in BigDecimal otherwise.
+     */
+    private static long applyAffordabilityFactor(BigDecimal maxMonthlyPayment, long factorE8) {
+        int shift = maxMonthlyPayment.scale() + FixedPointLoanMath.RATE_DECIMALS - DECIMAL_PLACES;
+        if (shift >= 0 && shift <= 18 && maxMonthlyPayment.unscaledValue().bitLength() < Long.SIZE) {
+            long unscaled = maxMonthlyPayment.unscaledValue().longValue();
+            long product = unscaled * factorE8;
+            if (Math.multiplyHigh(unscaled, factorE8) == 0 && product >= 0) {
+                return FixedPointLoanMath.divideHalfUp(product, POWERS_OF_TEN[shift]);
+            }
+        }
+        return FixedPointLoanMath.toCents(maxMonthlyPayment
+            .multiply(BigDecimal.valueOf(factorE8, FixedPointLoanMath.RATE_DECIMALS))
+            .setScale(DECIMAL_PLACES, ROUNDING_MODE));
+    }
+
     /**
      * Get current interest rates for different loan types.
      * In a real system, this would fetch from external rate providers.
@@ -264,7 +937,7 @@ public class LoanCalculationService {
 
     // Validation Methods
     
-    private void validateLoanRequest(LoanCalculationRequest request) {
+    void validateLoanRequest(LoanCalculationRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Loan calculation request cannot be null");
         }
@@ -315,7 +988,7 @@ public class LoanCalculationService {
             throw new IllegalArgumentException("Loan term must be positive");
         }
         
-        if (termMonths > 480) { // 40 years maximum
+        if (termMonths > MAX_TERM_MONTHS) {
             throw new IllegalArgumentException("Loan term cannot exceed 480 months (40 years)");
         }
     }
@@ -0,0 +1,138 @@
+package com.fintech.loanportal.service;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.PortfolioCashFlowProjection;
+import com.fintech.loanportal.entity.LoanApplication.ApplicationStatus;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+/**
+ * Projects scheduled monthly inflows across every approved and funded loan.
+ *
+ * Loans are read from {@link LoanApplicationRepository} in id-ordered chunks
+ * of terms only. Each chunk is split across the loan calculation pool, where
+ * every worker walks its loans with an {@link AmortizationCursor} and adds the
+ * payments into its own per-month arrays; the arrays are then summed. Memory
+ * is one chunk plus a few horizon-sized arrays, however large the book is.
+ *
+ * A loan's first payment falls in the month after it was approved, and its
+ * rows follow the same cent rounding as {@link LoanCalculationService}.
+ */
+@Service
+public class PortfolioProjectionService {
+
+    static final Set<ApplicationStatus> ACTIVE_STATUSES = EnumSet.of(ApplicationStatus.APPROVED, ApplicationStatus.FUNDED);
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    private final AnnuityFactorCache annuityFactorCache;
+
+    @Autowired
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    @Value("${app.portfolio.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    @Value("${app.portfolio.max-horizon-months:600}")
+    private int maxHorizonMonths = 600;
+
+    public PortfolioProjectionService(AnnuityFactorCache annuityFactorCache) {
+        this.annuityFactorCache = annuityFactorCache;
+    }
+
+    /**
+     * Principal and interest due in each of the {@code horizonMonths} months
+     * from {@code startMonth}. Payments before the start are skipped.
+     */
+    public PortfolioCashFlowProjection projectCashFlows(YearMonth startMonth, int horizonMonths) {
+        if (startMonth == null) {
+            throw new IllegalArgumentException("Start month is required");
+        }
+        if (horizonMonths <= 0 || horizonMonths > maxHorizonMonths) {
+            throw new IllegalArgumentException("Horizon must be between 1 and " + maxHorizonMonths + " months");
+        }
+
+        MonthlyCashFlows total = new MonthlyCashFlows(horizonMonths);
+        long afterId = 0;
+        List<LoanTermsView> chunk;
+        do {
+            chunk = loanApplicationRepository.findLoanTermsAfter(ACTIVE_STATUSES, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            total.merge(projectChunk(chunk, startMonth, horizonMonths));
+            afterId = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == chunkSize);
+
+        return new PortfolioCashFlowProjection(startMonth, total.loanCount, total.principalCents, total.interestCents);
+    }
+
+    private MonthlyCashFlows projectChunk(List<LoanTermsView> chunk, YearMonth startMonth, int horizonMonths) {
+        return CalculationConfig.runOnPool(loanCalculationPool, () -> chunk.parallelStream().collect(
+            () -> new MonthlyCashFlows(horizonMonths),
+            (flows, loan) -> addLoan(flows, loan, startMonth),
+            MonthlyCashFlows::merge), "Cash-flow projection");
+    }
+
+    private void addLoan(MonthlyCashFlows flows, LoanTermsView loan, YearMonth startMonth) {
+        flows.loanCount++;
+        int termMonths = loan.loanTermMonths();
+        YearMonth firstPaymentMonth = YearMonth.from(loan.originatedAt()).plusMonths(1);
+        // Index of payment 1 in the horizon; negative when the loan started paying earlier
+        int firstIndex = (int) startMonth.until(firstPaymentMonth, ChronoUnit.MONTHS);
+        int firstPayment = Math.max(1, 1 - firstIndex);
+        int lastPayment = Math.min(termMonths, flows.principalCents.length - firstIndex);
+        if (firstPayment > lastPayment) {
+            return;
+        }
+
+        long principalCents = FixedPointLoanMath.toCents(loan.loanAmount());
+        long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(loan.interestRate());
+        long paymentCents = annuityFactorCache.monthlyPaymentCents(principalCents, monthlyRateE8, termMonths);
+        AmortizationCursor cursor = new AmortizationCursor(principalCents, monthlyRateE8, paymentCents, termMonths);
+        cursor.seek(firstPayment - 1);
+        while (cursor.getPaymentNumber() < lastPayment && cursor.next()) {
+            int month = firstIndex + cursor.getPaymentNumber() - 1;
+            flows.principalCents[month] += cursor.getPrincipalPaymentCents();
+            flows.interestCents[month] += cursor.getInterestPaymentCents();
+        }
+    }
+
+    /**
+     * Per-month totals for one worker or for the whole projection.
+     */
+    private static final class MonthlyCashFlows {
+
+        private final long[] principalCents;
+        private final long[] interestCents;
+        private long loanCount;
+
+        MonthlyCashFlows(int horizonMonths) {
+            this.principalCents = new long[horizonMonths];
+            this.interestCents = new long[horizonMonths];
+        }
+
+        void merge(MonthlyCashFlows other) {
+            for (int i = 0; i < principalCents.length; i++) {
+                principalCents[i] += other.principalCents[i];
+                interestCents[i] += other.interestCents[i];
+            }
+            loanCount += other.loanCount;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.fintech.loanportal.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.PortfolioRiskSimulation;
+import com.fintech.loanportal.entity.LoanApplication.RiskLevel;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+/**
+ * Monte Carlo simulation of defaults and prepayments across the loan book.
+ *
+ * Each outstanding loan gets a constant monthly default hazard from its risk
+ * level, credit score and debt-to-income ratio, and a prepayment hazard from
+ * its credit score. On every path each loan draws a default month and a
+ * prepayment month from the matching geometric distributions. A default loses
+ * the loss-given-default share of the balance, a prepayment returns the
+ * balance early, and otherwise the loan runs to term. Balances come from the
+ * closed form (see {@link ClosedFormAmortization}), so each loan costs O(1)
+ * per path whatever its term.
+ *
+ * The book is loaded once into primitive arrays. Paths run in parallel on the
+ * loan calculation pool. Each path draws from its own SplitMix64 stream
+ * derived from (seed, path), so results do not depend on how paths are
+ * scheduled, and a path allocates nothing.
+ */
+@Service
+public class PortfolioRiskSimulationService {
+
+    // Annual default probability by assessed risk level, and for unassessed loans
+    private static final double[] ANNUAL_DEFAULT_RATE = {0.01, 0.03, 0.07, 0.15};
+    private static final double UNASSESSED_DEFAULT_RATE = 0.05;
+    private static final double MAX_ANNUAL_DEFAULT_RATE = 0.60;
+
+    // Credit scores scale default risk by e^((700 - score) / 150)
+    private static final double REFERENCE_CREDIT_SCORE = 700;
+    private static final double CREDIT_SCORE_SCALE = 150;
+
+    // Each point of debt-to-income above 36% adds 2% to default risk
+    private static final double DTI_THRESHOLD = 0.36;
+    private static final double DTI_SENSITIVITY = 2.0;
+
+    // Annual prepayment rate; borrowers with prime credit refinance faster
+    private static final double ANNUAL_PREPAYMENT_RATE = 0.06;
+    private static final double PRIME_PREPAYMENT_RATE = 0.09;
+    private static final int PRIME_CREDIT_SCORE = 740;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    private final AnnuityFactorCache annuityFactorCache;
+
+    @Autowired
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    @Value("${app.portfolio.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    @Value("${app.portfolio.simulation.max-paths:10000}")
+    private int maxPaths = 10_000;
+
+    @Value("${app.portfolio.simulation.loss-given-default:0.45}")
+    private double lossGivenDefault = 0.45;
+
+    public PortfolioRiskSimulationService(AnnuityFactorCache annuityFactorCache) {
+        this.annuityFactorCache = annuityFactorCache;
+    }
+
+    /**
+     * Run {@code paths} scenarios over the loans outstanding at the start of
+     * {@code valuationMonth}.
+     */
+    public PortfolioRiskSimulation simulate(YearMonth valuationMonth, int paths, long seed) {
+        if (valuationMonth == null) {
+            throw new IllegalArgumentException("Valuation month is required");
+        }
+        if (paths <= 0 || paths > maxPaths) {
+            throw new IllegalArgumentException("Paths must be between 1 and " + maxPaths);
+        }
+
+        LoanBook book = loadBook(valuationMonth);
+        double[] losses = new double[paths];
+        double[] cashFlows = new double[paths];
+        CalculationConfig.runOnPool(loanCalculationPool, () -> IntStream.range(0, paths).parallel()
+            .forEach(path -> simulatePath(book, seed, path, losses, cashFlows)), "Risk simulation");
+
+        PortfolioRiskSimulation result = new PortfolioRiskSimulation();
+        result.setValuationMonth(valuationMonth);
+        result.setPaths(paths);
+        result.setSeed(seed);
+        result.setLoanCount(book.size);
+        result.setExposureCents(Math.round(sum(book.balanceCents, book.size)));
+        result.setExpectedLossCents(Math.round(sum(losses, paths) / paths));
+        result.setExpectedCashFlowCents(Math.round(sum(cashFlows, paths) / paths));
+        Arrays.sort(losses);
+        Arrays.sort(cashFlows);
+        result.setLossP95Cents(percentile(losses, 0.95));
+        result.setLossP99Cents(percentile(losses, 0.99));
+        result.setCashFlowP5Cents(percentile(cashFlows, 0.05));
+        result.setCashFlowP50Cents(percentile(cashFlows, 0.50));
+        result.setCashFlowP95Cents(percentile(cashFlows, 0.95));
+        return result;
+    }
+
+    private void simulatePath(LoanBook book, long seed, int path, double[] losses, double[] cashFlows) {
+        long state = mix64(seed + path * GOLDEN_GAMMA);
+        double loss = 0;
+        double cash = 0;
+        for (int i = 0; i < book.size; i++) {
+            state += GOLDEN_GAMMA;
+            int defaultMonth = eventMonth(mix64(state), book.logDefaultSurvival[i]);
+            state += GOLDEN_GAMMA;
+            int prepaymentMonth = eventMonth(mix64(state), book.logPrepaymentSurvival[i]);
+
+            int remainingMonths = book.remainingMonths[i];
+            double paymentCents = book.paymentCents[i];
+            if (defaultMonth <= remainingMonths && defaultMonth <= prepaymentMonth) {
+                double exposure = book.balanceAfter(i, defaultMonth - 1);
+                loss += lossGivenDefault * exposure;
+                cash += (defaultMonth - 1) * paymentCents + (1 - lossGivenDefault) * exposure;
+            } else if (prepaymentMonth <= remainingMonths) {
+                cash += prepaymentMonth * paymentCents + book.balanceAfter(i, prepaymentMonth);
+            } else {
+                cash += remainingMonths * paymentCents;
+            }
+        }
+        losses[path] = loss;
+        cashFlows[path] = cash;
+    }
+
+    private LoanBook loadBook(YearMonth valuationMonth) {
+        LoanBook book = new LoanBook();
+        long afterId = 0;
+        List<LoanTermsView> chunk;
+        do {
+            chunk = loanApplicationRepository.findLoanTermsAfter(
+                PortfolioProjectionService.ACTIVE_STATUSES, afterId, PageRequest.of(0, chunkSize));
+            for (LoanTermsView loan : chunk) {
+                addLoan(book, loan, valuationMonth);
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == chunkSize);
+        return book;
+    }
+
+    private void addLoan(LoanBook book, LoanTermsView loan, YearMonth valuationMonth) {
+        int termMonths = loan.loanTermMonths();
+        YearMonth firstPaymentMonth = YearMonth.from(loan.originatedAt()).plusMonths(1);
+        int paymentsMade = (int) Math.max(0, firstPaymentMonth.until(valuationMonth, ChronoUnit.MONTHS));
+        if (paymentsMade >= termMonths) {
+            return;
+        }
+
+        long principalCents = FixedPointLoanMath.toCents(loan.loanAmount());
+        long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(loan.interestRate());
+        long paymentCents = annuityFactorCache.monthlyPaymentCents(principalCents, monthlyRateE8, termMonths);
+        double monthlyRate = (double) monthlyRateE8 / FixedPointLoanMath.RATE_SCALE;
+        double log1pRate = Math.log1p(monthlyRate);
+        double balanceCents = new ClosedFormAmortization(principalCents, monthlyRateE8, paymentCents)
+            .balanceAfter(paymentsMade);
+
+        double annualDefaultRate = annualDefaultRate(loan.riskLevel(), loan.creditScore(), loan.debtToIncomeRatio());
+        double annualPrepaymentRate = loan.creditScore() != null && loan.creditScore() >= PRIME_CREDIT_SCORE
+            ? PRIME_PREPAYMENT_RATE : ANNUAL_PREPAYMENT_RATE;
+        book.add(Math.max(balanceCents, 0), paymentCents, monthlyRate, log1pRate, termMonths - paymentsMade,
+            Math.log1p(-annualDefaultRate) / 12, Math.log1p(-annualPrepaymentRate) / 12);
+    }
+
+    static double annualDefaultRate(RiskLevel riskLevel, Integer creditScore, BigDecimal debtToIncomeRatio) {
+        double rate = riskLevel != null ? ANNUAL_DEFAULT_RATE[riskLevel.ordinal()] : UNASSESSED_DEFAULT_RATE;
+        if (creditScore != null) {
+            rate *= Math.exp((REFERENCE_CREDIT_SCORE - creditScore) / CREDIT_SCORE_SCALE);
+        }
+        if (debtToIncomeRatio != null) {
+            rate *= 1 + DTI_SENSITIVITY * Math.max(0, debtToIncomeRatio.doubleValue() - DTI_THRESHOLD);
+        }
+        return Math.min(rate, MAX_ANNUAL_DEFAULT_RATE);
+    }
+
+    /**
+     * First month (1-based) in which an event with monthly survival
+     * probability e^logSurvival occurs, by inversion of the geometric CDF.
+     */
+    private static int eventMonth(long bits, double logSurvival) {
+        double u = ((bits >>> 11) + 1) * 0x1.0p-53;  // uniform in (0, 1]
+        return 1 + (int) Math.min(Integer.MAX_VALUE - 1, Math.log(u) / logSurvival);
+    }
+
+    /**
+     * SplitMix64 finalizer, as used by {@link java.util.SplittableRandom}.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long percentile(double[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return Math.round(sorted[Math.max(index, 0)]);
+    }
+
+    private static double sum(double[] values, int length) {
+        double total = 0;
+        for (int i = 0; i < length; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+
+    /**
+     * Outstanding loans as parallel primitive arrays, grown as chunks load.
+     */
+    private static final class LoanBook {
+
+        private int size;
+        private double[] balanceCents = new double[1024];
+        private double[] paymentCents = new double[1024];
+        private double[] monthlyRate = new double[1024];
+        private double[] log1pRate = new double[1024];
+        private int[] remainingMonths = new int[1024];
+        private double[] logDefaultSurvival = new double[1024];
+        private double[] logPrepaymentSurvival = new double[1024];
+
+        void add(double balance, double payment, double rate, double log1p, int months,
+                 double defaultSurvival, double prepaymentSurvival) {
+            if (size == balanceCents.length) {
+                int capacity = size * 2;
+                balanceCents = Arrays.copyOf(balanceCents, capacity);
+                paymentCents = Arrays.copyOf(paymentCents, capacity);
+                monthlyRate = Arrays.copyOf(monthlyRate, capacity);
+                log1pRate = Arrays.copyOf(log1pRate, capacity);
+                remainingMonths = Arrays.copyOf(remainingMonths, capacity);
+                logDefaultSurvival = Arrays.copyOf(logDefaultSurvival, capacity);
+                logPrepaymentSurvival = Arrays.copyOf(logPrepaymentSurvival, capacity);
+            }
+            balanceCents[size] = balance;
+            paymentCents[size] = payment;
+            monthlyRate[size] = rate;
+            log1pRate[size] = log1p;
+            remainingMonths[size] = months;
+            logDefaultSurvival[size] = defaultSurvival;
+            logPrepaymentSurvival[size] = prepaymentSurvival;
+            size++;
+        }
+
+        /**
+         * Balance of loan i after k more payments; B(k) = B(1+r)^k - A((1+r)^k - 1) / r.
+         */
+        double balanceAfter(int i, int k) {
+            double rate = monthlyRate[i];
+            double balance;
+            if (rate == 0) {
+                balance = balanceCents[i] - paymentCents[i] * k;
+            } else {
+                double growthMinusOne = Math.expm1(k * log1pRate[i]);
+                balance = balanceCents[i] * (growthMinusOne + 1.0) - paymentCents[i] * growthMinusOne / rate;
+            }
+            return Math.max(balance, 0);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.fintech.loanportal.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.PrepaymentEvent;
+import com.fintech.loanportal.dto.PrepaymentScenario;
+import com.fintech.loanportal.dto.PrepaymentScenarioResult;
+import com.fintech.loanportal.dto.PrepaymentSimulation;
+import com.fintech.loanportal.dto.PrepaymentSimulationRequest;
+
+/**
+ * What-if analysis for extra principal payments.
+ *
+ * The base loan is calculated once through {@link LoanCalculationService}, so
+ * repeated simulations of the same loan reuse the cached schedule. Each
+ * scenario resumes from the base balance just before its first extra payment
+ * and only recomputes the months after it, using the same cent arithmetic as
+ * {@link AmortizationCursor}. The recompute stops as soon as the loan is paid
+ * off, so the unchanged prefix is never walked again.
+ *
+ * Interest totals are the sums of the schedule rows, so savings compare like
+ * with like. Scenarios are independent; large requests fan out across the
+ * loan calculation pool. Results are returned in request order.
+ */
+@Service
+public class PrepaymentSimulationService {
+
+    // Below this many scenarios the fork-join overhead outweighs the work
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    @Value("${app.loan.prepayment.max-scenarios:500}")
+    private int maxScenarios = 500;
+
+    public PrepaymentSimulation simulate(PrepaymentSimulationRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Prepayment simulation request cannot be null");
+        }
+        List<PrepaymentScenario> scenarios = request.getScenarios();
+        if (scenarios == null || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one prepayment scenario is required");
+        }
+        if (scenarios.size() > maxScenarios) {
+            throw new IllegalArgumentException("Simulation cannot exceed " + maxScenarios + " scenarios");
+        }
+        loanCalculationService.validateLoanRequest(request.getLoan());
+        if (!FixedPointLoanMath.isCentAligned(request.getLoan().getLoanAmount())) {
+            throw new IllegalArgumentException("Loan amount cannot have more than two decimal places");
+        }
+
+        LoanCalculationResult base = loanCalculationService.calculateLoan(withSchedule(request.getLoan()));
+        CompactAmortizationSchedule schedule = CompactAmortizationSchedule.viewedBy(base.getAmortizationSchedule());
+        if (schedule == null) {
+            throw new IllegalArgumentException("Loan schedule cannot be simulated");
+        }
+        BaseLoan loan = new BaseLoan(
+            FixedPointLoanMath.toCents(base.getLoanAmount()),
+            FixedPointLoanMath.monthlyRateE8(base.getInterestRate()),
+            FixedPointLoanMath.toCents(base.getMonthlyPayment()),
+            schedule);
+
+        ScenarioPlan[] plans = new ScenarioPlan[scenarios.size()];
+        for (int i = 0; i < plans.length; i++) {
+            plans[i] = ScenarioPlan.of(scenarios.get(i), loan.termMonths(), i);
+        }
+
+        boolean includeSchedule = request.isIncludeSchedule();
+        List<PrepaymentScenarioResult> results;
+        if (plans.length < PARALLEL_THRESHOLD) {
+            results = Arrays.stream(plans).map(plan -> simulate(loan, plan, includeSchedule)).toList();
+        } else {
+            results = CalculationConfig.runOnPool(loanCalculationPool, () -> IntStream.range(0, plans.length)
+                .parallel()
+                .mapToObj(i -> simulate(loan, plans[i], includeSchedule))
+                .toList(), "Prepayment simulation");
+        }
+
+        int baseTerm = loan.termMonths();
+        return new PrepaymentSimulation(base.getMonthlyPayment(),
+            FixedPointLoanMath.fromCents(schedule.getCumulativeInterestCents(baseTerm - 1)),
+            baseTerm, schedule.getPaymentDate(baseTerm - 1), results);
+    }
+
+    /**
+     * The base loan always needs its full schedule, whatever schedule and
+     * roll-up options the client sent with it, so those are reset here.
+     */
+    private static LoanCalculationRequest withSchedule(LoanCalculationRequest loan) {
+        LoanCalculationRequest base = new LoanCalculationRequest();
+        base.setLoanAmount(loan.getLoanAmount());
+        base.setInterestRate(loan.getInterestRate());
+        base.setLoanTermMonths(loan.getLoanTermMonths());
+        base.setStartDate(loan.getStartDate());
+        return base;
+    }
+
+    /**
+     * Replay the loan from the first prepayment month to payoff.
+     *
+     * Each month interest is charged on the opening balance, the scheduled
+     * payment and any extra go to principal, and the month in which they would
+     * overshoot the balance (or the last scheduled month) settles the loan.
+     */
+    static PrepaymentScenarioResult simulate(BaseLoan loan, ScenarioPlan plan, boolean includeSchedule) {
+        CompactAmortizationSchedule base = loan.schedule();
+        int termMonths = loan.termMonths();
+        int resumeAt = plan.months[0];
+        int prefixRows = resumeAt - 1;
+        long baseInterest = base.getCumulativeInterestCents(termMonths - 1);
+
+        long balance = prefixRows == 0 ? loan.principalCents() : base.getRemainingBalanceCents(prefixRows - 1);
+        long cumulativeInterest = prefixRows == 0 ? 0 : base.getCumulativeInterestCents(prefixRows - 1);
+        if (balance <= 0) {
+            // The base schedule has already paid the loan off before the first event
+            return toResult(plan, base, termMonths, termMonths, 0, baseInterest, baseInterest,
+                includeSchedule ? base.asList() : null);
+        }
+
+        CompactAmortizationSchedule schedule = includeSchedule ? base.copyPrefix(prefixRows, termMonths) : null;
+        LocalDate firstPaymentDate = base.getPaymentDate(0);
+        long recurringExtra = 0;
+        long totalExtra = 0;
+        int nextEvent = 0;
+        int paymentNumber = prefixRows;
+
+        while (balance > 0 && paymentNumber < termMonths) {
+            paymentNumber++;
+            long extra = 0;
+            while (nextEvent < plan.months.length && plan.months[nextEvent] == paymentNumber) {
+                if (plan.recurring[nextEvent]) {
+                    recurringExtra += plan.amounts[nextEvent];
+                } else {
+                    extra += plan.amounts[nextEvent];
+                }
+                nextEvent++;
+            }
+            extra += recurringExtra;
+
+            long interest = FixedPointLoanMath.monthlyInterestCents(balance, loan.monthlyRateE8());
+            long principal = loan.paymentCents() - interest;
+            long payment = loan.paymentCents();
+            if (paymentNumber == termMonths || principal + extra >= balance) {
+                // Final payment: settle the balance, capping any extra at what is owed
+                extra = Math.max(Math.min(extra, balance - principal), 0);
+                principal = balance - extra;
+                payment = principal + interest;
+            }
+
+            balance -= principal + extra;
+            cumulativeInterest += interest;
+            totalExtra += extra;
+            if (schedule != null) {
+                schedule.add(payment + extra, principal + extra, interest, Math.max(balance, 0), cumulativeInterest,
+                    firstPaymentDate.plusMonths(paymentNumber - 1));
+            }
+        }
+
+        return toResult(plan, base, termMonths, paymentNumber, totalExtra, cumulativeInterest, baseInterest,
+            schedule != null ? schedule.trimmed().asList() : null);
+    }
+
+    private static PrepaymentScenarioResult toResult(ScenarioPlan plan, CompactAmortizationSchedule base,
+                                                     int termMonths, int payoffPaymentNumber, long totalExtraCents,
+                                                     long totalInterestCents, long baseInterestCents,
+                                                     List<AmortizationScheduleEntry> rows) {
+        return new PrepaymentScenarioResult(plan.name, payoffPaymentNumber,
+            base.getPaymentDate(0).plusMonths(payoffPaymentNumber - 1),
+            termMonths - payoffPaymentNumber,
+            FixedPointLoanMath.fromCents(totalExtraCents),
+            FixedPointLoanMath.fromCents(totalInterestCents),
+            FixedPointLoanMath.fromCents(baseInterestCents - totalInterestCents),
+            rows);
+    }
+
+    /**
+     * The fixed inputs shared by every scenario of one simulation.
+     */
+    record BaseLoan(long principalCents, long monthlyRateE8, long paymentCents, CompactAmortizationSchedule schedule) {
+
+        int termMonths() {
+            return schedule.size();
+        }
+    }
+
+    /**
+     * A scenario's events as primitive arrays sorted by payment number.
+     */
+    static final class ScenarioPlan {
+        final String name;
+        final int[] months;
+        final long[] amounts;
+        final boolean[] recurring;
+
+        private ScenarioPlan(String name, int[] months, long[] amounts, boolean[] recurring) {
+            this.name = name;
+            this.months = months;
+            this.amounts = amounts;
+            this.recurring = recurring;
+        }
+
+        static ScenarioPlan of(PrepaymentScenario scenario, int termMonths, int index) {
+            String label = "Scenario " + (index + 1);
+            if (scenario == null || scenario.getEvents() == null || scenario.getEvents().isEmpty()) {
+                throw new IllegalArgumentException(label + " must contain at least one prepayment event");
+            }
+            List<PrepaymentEvent> events = scenario.getEvents();
+            if (events.size() > termMonths) {
+                throw new IllegalArgumentException(label + " cannot have more than " + termMonths + " events");
+            }
+            PrepaymentEvent[] sorted = events.toArray(PrepaymentEvent[]::new);
+            for (PrepaymentEvent event : sorted) {
+                validateEvent(event, termMonths, label);
+            }
+            Arrays.sort(sorted, (a, b) -> Integer.compare(a.getPaymentNumber(), b.getPaymentNumber()));
+
+            int[] months = new int[sorted.length];
+            long[] amounts = new long[sorted.length];
+            boolean[] recurring = new boolean[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                months[i] = sorted[i].getPaymentNumber();
+                amounts[i] = FixedPointLoanMath.toCents(sorted[i].getAmount());
+                recurring[i] = sorted[i].isRecurring();
+            }
+            return new ScenarioPlan(scenario.getName() != null ? scenario.getName() : label, months, amounts, recurring);
+        }
+
+        private static void validateEvent(PrepaymentEvent event, int termMonths, String label) {
+            if (event == null) {
+                throw new IllegalArgumentException(label + " contains a null prepayment event");
+            }
+            if (event.getPaymentNumber() < 1 || event.getPaymentNumber() > termMonths) {
+                throw new IllegalArgumentException(label + ": payment number must be between 1 and " + termMonths);
+            }
+            BigDecimal amount = event.getAmount();
+            if (amount == null || amount.signum() <= 0) {
+                throw new IllegalArgumentException(label + ": prepayment amount must be positive");
+            }
+            if (!FixedPointLoanMath.isCentAligned(amount)) {
+                throw new IllegalArgumentException(label + ": prepayment amount cannot have more than two decimal places");
+            }
+        }
+    }
+}
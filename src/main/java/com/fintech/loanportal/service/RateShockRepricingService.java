@@ -0,0 +1,312 @@
+package com.fintech.loanportal.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fintech.loanportal.config.CalculationConfig;
+import com.fintech.loanportal.dto.RateShockJobStatus;
+import com.fintech.loanportal.dto.RateShockReport;
+import com.fintech.loanportal.dto.RateShockSegment;
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+/**
+ * Re-prices every approved and funded loan under a set of rate shocks and
+ * totals the monthly payments and lifetime interest by loan type.
+ *
+ * A job walks the book in id-ordered chunks of terms only. Each chunk is split
+ * across the loan calculation pool, and every loan is priced at its current
+ * rate and at each shocked rate in one pass. Rates stay in scaled longs, and
+ * payment factors come from the shared {@link AnnuityFactorCache}, where loans
+ * on the same rate and term share an entry. After each chunk the totals and
+ * the last loan id are checkpointed. A failed or cancelled job resumes from
+ * the next id instead of starting again.
+ *
+ * Jobs run on their own small executor. They and their checkpoints are
+ * kept in memory, up to {@value #MAX_RETAINED_JOBS} jobs.
+ */
+@Service
+public class RateShockRepricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateShockRepricingService.class);
+
+    public static final List<Integer> DEFAULT_SHOCKS_BP = List.of(100, 200, 300);
+
+    private static final int MAX_SHOCKS = 10;
+    private static final int MIN_SHOCK_BP = -1000;
+    private static final int MAX_SHOCK_BP = 2000;
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    // One basis point (0.01%) as a fraction in units of 1e-8
+    private static final long BASIS_POINT_E8 = 10_000;
+
+    private static final LoanType[] LOAN_TYPES = LoanType.values();
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    private final AnnuityFactorCache annuityFactorCache;
+
+    @Autowired
+    @Qualifier("loanCalculationPool")
+    private ForkJoinPool loanCalculationPool;
+
+    @Autowired
+    @Qualifier("rateShockJobExecutor")
+    private Executor jobExecutor;
+
+    @Value("${app.portfolio.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    // Insertion-ordered so the oldest finished jobs are evicted first; guarded by itself
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    public RateShockRepricingService(AnnuityFactorCache annuityFactorCache) {
+        this.annuityFactorCache = annuityFactorCache;
+    }
+
+    /**
+     * Start a re-pricing job for the given shocks in basis points.
+     */
+    public RateShockReport start(List<Integer> shocksBp) {
+        Job job = new Job(UUID.randomUUID().toString(), validateShocks(shocksBp));
+        synchronized (jobs) {
+            Iterator<Job> oldest = jobs.values().iterator();
+            while (jobs.size() >= MAX_RETAINED_JOBS && oldest.hasNext()) {
+                if (oldest.next().report().getStatus() != RateShockJobStatus.RUNNING) {
+                    oldest.remove();
+                }
+            }
+            jobs.put(job.id, job);
+        }
+        launch(job);
+        return job.report();
+    }
+
+    public RateShockReport getReport(String jobId) {
+        return findJob(jobId).report();
+    }
+
+    /**
+     * Continue a failed or cancelled job from its last checkpoint.
+     */
+    public RateShockReport resume(String jobId) {
+        Job job = findJob(jobId);
+        if (!job.restart()) {
+            throw new IllegalArgumentException("Only failed or cancelled jobs can be resumed");
+        }
+        launch(job);
+        return job.report();
+    }
+
+    /**
+     * Stop a running job after the chunk in progress.
+     */
+    public RateShockReport cancel(String jobId) {
+        Job job = findJob(jobId);
+        job.cancelRequested = true;
+        return job.report();
+    }
+
+    private Job findJob(String jobId) {
+        synchronized (jobs) {
+            Job job = jobs.get(jobId);
+            if (job == null) {
+                throw new NoSuchElementException("Rate shock job not found");
+            }
+            return job;
+        }
+    }
+
+    private void launch(Job job) {
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.fail(e);
+        }
+    }
+
+    private void run(Job job) {
+        try {
+            List<LoanTermsView> chunk;
+            do {
+                if (job.cancelRequested) {
+                    job.finish(RateShockJobStatus.CANCELLED);
+                    return;
+                }
+                chunk = loanApplicationRepository.findLoanTermsAfter(
+                    PortfolioProjectionService.ACTIVE_STATUSES, job.lastLoanId(), PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                job.checkpoint(repriceChunk(chunk, job.shocksBp), chunk.get(chunk.size() - 1).id(), chunk.size());
+            } while (chunk.size() == chunkSize);
+            job.finish(RateShockJobStatus.COMPLETED);
+        } catch (RuntimeException e) {
+            logger.warn("Rate shock job {} failed after loan {}", job.id, job.lastLoanId(), e);
+            job.fail(e);
+        }
+    }
+
+    private ShockTotals repriceChunk(List<LoanTermsView> chunk, int[] shocksBp) {
+        return CalculationConfig.runOnPool(loanCalculationPool, () -> chunk.parallelStream().collect(
+            () -> new ShockTotals(shocksBp.length + 1),
+            (totals, loan) -> repriceLoan(totals, loan, shocksBp),
+            ShockTotals::merge), "Rate shock re-pricing");
+    }
+
+    private void repriceLoan(ShockTotals totals, LoanTermsView loan, int[] shocksBp) {
+        long principalCents = FixedPointLoanMath.toCents(loan.loanAmount());
+        long annualRateE8 = FixedPointLoanMath.annualRateE8(loan.interestRate());
+        int termMonths = loan.loanTermMonths();
+        int type = loan.loanType().ordinal();
+        int cell = type * totals.scenarios;
+
+        totals.loanCount[type]++;
+        totals.principalCents[type] += principalCents;
+        for (int s = 0; s < totals.scenarios; s++) {
+            long shockedRateE8 = s == 0 ? annualRateE8 : Math.max(0, annualRateE8 + shocksBp[s - 1] * BASIS_POINT_E8);
+            long paymentCents = annuityFactorCache.monthlyPaymentCents(
+                principalCents, FixedPointLoanMath.monthlyRateE8(shockedRateE8), termMonths);
+            totals.paymentCents[cell + s] += paymentCents;
+            totals.interestCents[cell + s] += paymentCents * termMonths - principalCents;
+        }
+    }
+
+    private static int[] validateShocks(List<Integer> shocksBp) {
+        if (shocksBp == null || shocksBp.isEmpty() || shocksBp.size() > MAX_SHOCKS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHOCKS + " rate shocks are required");
+        }
+        int[] shocks = new int[shocksBp.size()];
+        for (int i = 0; i < shocks.length; i++) {
+            Integer shock = shocksBp.get(i);
+            if (shock == null || shock < MIN_SHOCK_BP || shock > MAX_SHOCK_BP) {
+                throw new IllegalArgumentException(
+                    "Rate shocks must be between " + MIN_SHOCK_BP + " and " + MAX_SHOCK_BP + " basis points");
+            }
+            shocks[i] = shock;
+        }
+        return shocks;
+    }
+
+    /**
+     * Totals per loan type; payment and interest cells are [type][scenario]
+     * flattened, with scenario 0 at the current rate.
+     */
+    private static final class ShockTotals {
+
+        private final int scenarios;
+        private final long[] loanCount = new long[LOAN_TYPES.length];
+        private final long[] principalCents = new long[LOAN_TYPES.length];
+        private final long[] paymentCents;
+        private final long[] interestCents;
+
+        ShockTotals(int scenarios) {
+            this.scenarios = scenarios;
+            this.paymentCents = new long[LOAN_TYPES.length * scenarios];
+            this.interestCents = new long[LOAN_TYPES.length * scenarios];
+        }
+
+        void merge(ShockTotals other) {
+            for (int type = 0; type < loanCount.length; type++) {
+                loanCount[type] += other.loanCount[type];
+                principalCents[type] += other.principalCents[type];
+            }
+            for (int cell = 0; cell < paymentCents.length; cell++) {
+                paymentCents[cell] += other.paymentCents[cell];
+                interestCents[cell] += other.interestCents[cell];
+            }
+        }
+    }
+
+    /**
+     * A job's checkpoint: totals so far and the last loan id they include.
+     */
+    private static final class Job {
+
+        private final String id;
+        private final int[] shocksBp;
+        private final ShockTotals totals;
+        private RateShockJobStatus status = RateShockJobStatus.RUNNING;
+        private long lastLoanId;
+        private long loansProcessed;
+        private String failure;
+        private volatile boolean cancelRequested;
+
+        Job(String id, int[] shocksBp) {
+            this.id = id;
+            this.shocksBp = shocksBp;
+            this.totals = new ShockTotals(shocksBp.length + 1);
+        }
+
+        synchronized long lastLoanId() {
+            return lastLoanId;
+        }
+
+        synchronized void checkpoint(ShockTotals chunkTotals, long chunkLastLoanId, int chunkSize) {
+            totals.merge(chunkTotals);
+            lastLoanId = chunkLastLoanId;
+            loansProcessed += chunkSize;
+        }
+
+        synchronized void finish(RateShockJobStatus finalStatus) {
+            status = finalStatus;
+        }
+
+        synchronized void fail(Exception e) {
+            status = RateShockJobStatus.FAILED;
+            failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+
+        synchronized boolean restart() {
+            if (status != RateShockJobStatus.FAILED && status != RateShockJobStatus.CANCELLED) {
+                return false;
+            }
+            status = RateShockJobStatus.RUNNING;
+            failure = null;
+            cancelRequested = false;
+            return true;
+        }
+
+        synchronized RateShockReport report() {
+            List<RateShockSegment> segments = new ArrayList<>();
+            for (LoanType loanType : LOAN_TYPES) {
+                int type = loanType.ordinal();
+                if (totals.loanCount[type] == 0) {
+                    continue;
+                }
+                int from = type * totals.scenarios;
+                segments.add(new RateShockSegment(loanType, totals.loanCount[type], totals.principalCents[type],
+                    Arrays.copyOfRange(totals.paymentCents, from, from + totals.scenarios),
+                    Arrays.copyOfRange(totals.interestCents, from, from + totals.scenarios)));
+            }
+            RateShockReport report = new RateShockReport();
+            report.setJobId(id);
+            report.setStatus(status);
+            report.setShocksBp(shocksBp.clone());
+            report.setLoansProcessed(loansProcessed);
+            report.setLastLoanId(lastLoanId);
+            report.setFailure(failure);
+            report.setSegments(segments);
+            return report;
+        }
+    }
+}
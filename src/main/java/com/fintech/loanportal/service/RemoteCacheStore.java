@@ -0,0 +1,27 @@
+package com.fintech.loanportal.service;
+
+import java.time.Duration;
+
+/**
+ * Shared byte-oriented key/value store backing the second cache tier.
+ *
+ * Implementations may throw any runtime exception on connection problems or
+ * timeouts; {@link TwoTierCache} treats those as misses and trips its
+ * circuit breaker.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * @return the stored bytes, or null when the key is absent
+     */
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * Remove every key starting with the given prefix.
+     */
+    void deleteByPrefix(String prefix);
+}
@@ -0,0 +1,117 @@
+package com.fintech.loanportal.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Collapses concurrent calls for the same key into one computation.
+ *
+ * The first caller for a key (the leader) runs the loader on its own thread;
+ * callers arriving while it is in flight wait for and share its result or
+ * exception. Nothing is retained once the leader finishes, so this only
+ * deduplicates overlapping work and is meant to sit in front of a cache.
+ *
+ * Waiting is bounded: a caller that waits longer than the timeout stops
+ * waiting and runs the loader itself, so one stuck computation cannot stall
+ * every request for its key. An interrupted waiter gives up without
+ * affecting the leader or the other waiters.
+ */
+public final class SingleFlight<K, V> implements MeterBinder {
+
+    private final String name;
+    private final Duration timeout;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(String name, Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Single-flight timeout must be positive");
+        }
+        this.name = name;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Return the loader's value for the key, sharing it with any concurrent
+     * callers for an equal key.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing == null) {
+            return lead(key, call, loader);
+        }
+
+        coalesced.increment();
+        try {
+            return existing.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight calculation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight calculation failed", e.getCause());
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("singleflight.calls", leaders, LongAdder::sum)
+            .tag("name", name).tag("result", "leader")
+            .description("Calls that ran the computation")
+            .register(registry);
+        FunctionCounter.builder("singleflight.calls", coalesced, LongAdder::sum)
+            .tag("name", name).tag("result", "coalesced")
+            .description("Calls that joined a computation already in flight")
+            .register(registry);
+        FunctionCounter.builder("singleflight.timeouts", timeouts, LongAdder::sum)
+            .tag("name", name)
+            .description("Coalesced calls that stopped waiting and computed on their own")
+            .register(registry);
+        Gauge.builder("singleflight.inflight", this, SingleFlight::getInFlightCount)
+            .tag("name", name)
+            .description("Keys currently being computed")
+            .register(registry);
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Waiters already hold the future; later callers start a fresh computation
+            inFlight.remove(key, call);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.fintech.loanportal.service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Near/far cache: an in-process L1 in front of a shared remote L2.
+ *
+ * - Reads check L1 first; an L2 hit is decoded and promoted into L1
+ * - Writes go to L1 and then to L2
+ * - Every L2 call goes through a {@link CircuitBreaker}. While it is open, or
+ *   when a call fails, the cache behaves as L1 only and the request carries on
+ *
+ * Values are stored remotely in the byte form produced by the codec, under
+ * {@code <name>:<mapped key>}.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    /**
+     * Conversion between cached values and their remote byte form.
+     */
+    public interface ValueCodec {
+        byte[] encode(Object value);
+
+        Object decode(byte[] bytes);
+    }
+
+    private final String name;
+    private final Cache local;
+    private final RemoteCacheStore remote;
+    private final ValueCodec codec;
+    private final Function<Object, String> keyMapper;
+    private final Duration remoteTtl;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+    private final LongAdder remoteSkipped = new LongAdder();
+
+    public TwoTierCache(String name, Cache local, RemoteCacheStore remote, ValueCodec codec,
+                        Function<Object, String> keyMapper, Duration remoteTtl, CircuitBreaker circuitBreaker) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.codec = codec;
+        this.keyMapper = keyMapper;
+        this.remoteTtl = remoteTtl;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public Cache getLocalCache() {
+        return local;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper localValue = local.get(key);
+        if (localValue != null) {
+            return localValue.get();
+        }
+        Object remoteValue = remoteGet(key);
+        if (remoteValue != null) {
+            local.put(key, remoteValue);
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(local.get(key, () -> {
+            Object remoteValue = remoteGet(key);
+            if (remoteValue != null) {
+                return remoteValue;
+            }
+            T loaded = valueLoader.call();
+            remotePut(key, loaded);
+            return loaded;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        remotePut(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        runRemote("evict", () -> remote.delete(remoteKey(key)));
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        runRemote("clear", () -> remote.deleteByPrefix(name + ":"));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.remote.gets", remoteHits, LongAdder::sum)
+            .tag("cache", name).tag("result", "hit")
+            .description("L1 misses served from the remote tier")
+            .register(registry);
+        FunctionCounter.builder("cache.remote.gets", remoteMisses, LongAdder::sum)
+            .tag("cache", name).tag("result", "miss")
+            .description("L1 misses not found in the remote tier")
+            .register(registry);
+        FunctionCounter.builder("cache.remote.errors", remoteErrors, LongAdder::sum)
+            .tag("cache", name)
+            .description("Remote tier calls that failed or timed out")
+            .register(registry);
+        FunctionCounter.builder("cache.remote.skipped", remoteSkipped, LongAdder::sum)
+            .tag("cache", name)
+            .description("Remote tier calls skipped while the circuit was open")
+            .register(registry);
+        Gauge.builder("cache.remote.circuit.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+            .tag("cache", name)
+            .description("1 while remote tier calls are suspended")
+            .register(registry);
+    }
+
+    private Object remoteGet(Object key) {
+        if (!circuitBreaker.tryAcquire()) {
+            remoteSkipped.increment();
+            return null;
+        }
+        long start = circuitBreaker.now();
+        byte[] bytes;
+        try {
+            bytes = remote.get(remoteKey(key));
+        } catch (RuntimeException e) {
+            onRemoteFailure("get", e);
+            return null;
+        }
+        circuitBreaker.onSuccess(circuitBreaker.now() - start);
+        if (bytes == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        try {
+            Object value = codec.decode(bytes);
+            remoteHits.increment();
+            return value;
+        } catch (IllegalArgumentException e) {
+            log.warn("Discarding undecodable remote entry in cache '{}': {}", name, e.getMessage());
+            remoteMisses.increment();
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        runRemote("put", () -> remote.put(remoteKey(key), codec.encode(value), remoteTtl));
+    }
+
+    private void runRemote(String operation, Runnable call) {
+        if (!circuitBreaker.tryAcquire()) {
+            remoteSkipped.increment();
+            return;
+        }
+        long start = circuitBreaker.now();
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            onRemoteFailure(operation, e);
+            return;
+        }
+        circuitBreaker.onSuccess(circuitBreaker.now() - start);
+    }
+
+    private void onRemoteFailure(String operation, RuntimeException e) {
+        remoteErrors.increment();
+        circuitBreaker.onFailure();
+        log.debug("Remote {} failed for cache '{}', serving from L1 only", operation, name, e);
+    }
+
+    private String remoteKey(Object key) {
+        return name + ":" + keyMapper.apply(key);
+    }
+}
@@ -7,4 +7,5 @@ public interface UserService {
     User registerUser(RegisterRequest registerRequest);
     User getUserByEmail(String email);
     boolean existsByEmail(String email);
+    boolean upgradePasswordHash(User user, String rawPassword);
 }
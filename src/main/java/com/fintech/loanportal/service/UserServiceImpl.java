@@ -35,4 +35,18 @@ public class UserServiceImpl implements UserService {
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
+
+    /**
+     * Re-hash a just-verified password when its stored hash was made with
+     * another algorithm or cost. Returns whether the hash was replaced.
+     */
+    @Override
+    public boolean upgradePasswordHash(User user, String rawPassword) {
+        if (user == null || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return false;
+        }
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        userRepository.save(user);
+        return true;
+    }
 }
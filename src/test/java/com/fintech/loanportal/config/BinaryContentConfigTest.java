@@ -0,0 +1,93 @@
+package com.fintech.loanportal.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fintech.loanportal.controller.LoanController;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationCoalescer;
+import com.fintech.loanportal.service.LoanCalculationService;
+import com.fintech.loanportal.service.SingleFlight;
+
+class BinaryContentConfigTest {
+
+    private final BinaryContentConfig config = new BinaryContentConfig();
+    private final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+
+    @Test
+    void cborScheduleIsColumnarAndDecodesToTheSameValues() throws Exception {
+        LoanCalculationResult result = service.calculateLoan(request());
+        ObjectMapper cbor = BinaryContentConfig.binaryMapper(Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JacksonConfig().loanCalculationModule()), new CBORFactory());
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+        byte[] cborBytes = cbor.writeValueAsBytes(result);
+        byte[] jsonBytes = json.writeValueAsBytes(result);
+        JsonNode schedule = cbor.readTree(cborBytes).get("amortizationSchedule");
+
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length / 5);
+        assertThat(schedule.get("encoding").asText()).isEqualTo(ColumnarScheduleSerializer.ENCODING);
+        List<AmortizationScheduleEntry> rows = result.getAmortizationSchedule();
+        long epochDay = 0;
+        long balance = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            epochDay += schedule.get("paymentDate").get(i).asLong();
+            balance += schedule.get("remainingBalance").get(i).asLong();
+            assertThat(LocalDate.ofEpochDay(epochDay)).isEqualTo(rows.get(i).getPaymentDate());
+            assertThat(BigDecimal.valueOf(balance, 2)).isEqualByComparingTo(rows.get(i).getRemainingBalance());
+        }
+        assertThat(json.readTree(jsonBytes).get("amortizationSchedule").isArray()).isTrue();
+    }
+
+    @Test
+    void calculateEndpointHonorsCborAcceptHeader() throws Exception {
+        LoanController controller = new LoanController();
+        LoanCalculationCoalescer coalescer = new LoanCalculationCoalescer();
+        ReflectionTestUtils.setField(coalescer, "loanCalculationService", service);
+        ReflectionTestUtils.setField(coalescer, "singleFlight", new SingleFlight<>("test", Duration.ofSeconds(5)));
+        ReflectionTestUtils.setField(controller, "loanCalculationService", service);
+        ReflectionTestUtils.setField(controller, "loanCalculationCoalescer", coalescer);
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(json),
+                config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()))
+            .build();
+
+        mockMvc.perform(post("/api/loans/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(json.writeValueAsBytes(request())))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    private static LoanCalculationRequest request() {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal("325000.00"));
+        request.setInterestRate(new BigDecimal("6.75"));
+        request.setLoanTermMonths(360);
+        request.setStartDate(LocalDate.of(2025, 1, 31));
+        return request;
+    }
+}
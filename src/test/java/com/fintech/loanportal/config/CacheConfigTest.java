@@ -0,0 +1,81 @@
+package com.fintech.loanportal.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+@SpringJUnitConfig(CacheConfigTest.TestConfig.class)
+class CacheConfigTest {
+
+    @Configuration
+    @EnableCaching
+    @Import({CacheConfig.class, CalculationConfig.class, LoanCalculationService.class})
+    static class TestConfig {
+
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.LOAN_CALCULATIONS).clear();
+    }
+
+    @Test
+    void equivalentRequestsShareOneWeightedEntry() {
+        LoanCalculationResult first = loanCalculationService.calculateLoan(request("250000", "6.5"));
+        LoanCalculationResult second = loanCalculationService.calculateLoan(request("250000.00", "6.50"));
+
+        assertThat(second).isSameAs(first);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+            ((CaffeineCache) cacheManager.getCache(CacheConfig.LOAN_CALCULATIONS)).getNativeCache();
+        nativeCache.cleanUp();  // weights are applied by Caffeine's async maintenance
+        assertThat(nativeCache.estimatedSize()).isEqualTo(1);
+        assertThat(nativeCache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isEqualTo(361);
+    }
+
+    @Test
+    void differentStartDatesAreCachedSeparately() {
+        LoanCalculationRequest january = request("90000", "4.25");
+        LoanCalculationRequest february = request("90000", "4.25");
+        february.setStartDate(LocalDate.of(2024, 2, 1));
+
+        assertThat(loanCalculationService.calculateLoan(february))
+            .isNotSameAs(loanCalculationService.calculateLoan(january));
+    }
+
+    private static LoanCalculationRequest request(String amount, String rate) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setLoanTermMonths(360);
+        request.setStartDate(LocalDate.of(2024, 1, 1));
+        return request;
+    }
+}
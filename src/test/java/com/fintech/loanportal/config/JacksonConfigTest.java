@@ -0,0 +1,143 @@
+package com.fintech.loanportal.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.RollupPeriod;
+import com.fintech.loanportal.service.AnnuityFactorCache;
+import com.fintech.loanportal.service.LoanCalculationService;
+
+class JacksonConfigTest {
+
+    private final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+
+    @Test
+    void handWrittenSerializerMatchesBeanSerialization() throws Exception {
+        for (boolean datesAsTimestamps : new boolean[] {false, true}) {
+            ObjectMapper bean = mapper(datesAsTimestamps, false);
+            ObjectMapper custom = mapper(datesAsTimestamps, true);
+            for (LoanCalculationResult result : List.of(
+                    service.calculateLoan(request("325000.00", "6.75", 360)),
+                    service.calculateLoan(request("12345.678", "4.1", 24)),
+                    service.calculateLoanSummary(request("50000", "0", 12)),
+                    service.calculateLoan(rollupsOnly(request("80000.00", "5.5", 62))))) {
+                result.setCalculatedAt(LocalDateTime.of(2025, 3, 4, 5, 6, 7));
+
+                assertThat(custom.writeValueAsString(result)).isEqualTo(bean.writeValueAsString(result));
+            }
+        }
+    }
+
+    @Test
+    void entrySerializerHandlesNullsAndNegativeAmounts() throws Exception {
+        AmortizationScheduleEntry entry = AmortizationScheduleEntry.builder()
+            .paymentNumber(3)
+            .paymentDate(LocalDate.of(1969, 12, 31))
+            .interestPayment(new BigDecimal("-0.05"))
+            .build();
+
+        assertThat(mapper(false, true).writeValueAsString(entry))
+            .isEqualTo(mapper(false, false).writeValueAsString(entry));
+    }
+
+    @Test
+    void handWrittenPathCoversEveryDtoProperty() throws Exception {
+        ObjectMapper custom = mapper(false, true);
+
+        assertThat(resultSerializer(custom).isHandWritten())
+            .as("a LoanCalculationResult property is missing from LoanCalculationResultSerializer.Field")
+            .isTrue();
+        assertThat(entrySerializer(custom).isHandWritten())
+            .as("an AmortizationScheduleEntry property is missing from AmortizationScheduleEntrySerializer.Field")
+            .isTrue();
+    }
+
+    @Test
+    void handWrittenPathFollowsNamingStrategyAndPropertyOrder() throws Exception {
+        Consumer<Jackson2ObjectMapperBuilder> snakeCaseSorted = builder -> builder
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .featuresToEnable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+        ObjectMapper bean = mapper(snakeCaseSorted, false);
+        ObjectMapper custom = mapper(snakeCaseSorted, true);
+        LoanCalculationResult result = service.calculateLoan(request("325000.00", "6.75", 360));
+
+        assertThat(resultSerializer(custom).isHandWritten()).isTrue();
+        assertThat(custom.writeValueAsString(result)).isEqualTo(bean.writeValueAsString(result))
+            .contains("\"amortization_schedule\":[{\"cumulative_interest\":");
+    }
+
+    @Test
+    void fallsBackToBeanSerializationForNumberFormatOverrides() throws Exception {
+        Consumer<Jackson2ObjectMapperBuilder> decimalsAsStrings = builder -> builder.postConfigurer(mapper ->
+            mapper.configOverride(BigDecimal.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING)));
+        ObjectMapper bean = mapper(decimalsAsStrings, false);
+        ObjectMapper custom = mapper(decimalsAsStrings, true);
+        LoanCalculationResult result = service.calculateLoan(request("325000.00", "6.75", 360));
+
+        assertThat(resultSerializer(custom).isHandWritten()).isFalse();
+        assertThat(custom.writeValueAsString(result)).isEqualTo(bean.writeValueAsString(result))
+            .contains("\"monthlyPayment\":\"");
+    }
+
+    private static LoanCalculationResultSerializer resultSerializer(ObjectMapper mapper) throws Exception {
+        return (LoanCalculationResultSerializer) serializer(mapper, LoanCalculationResult.class);
+    }
+
+    private static AmortizationScheduleEntrySerializer entrySerializer(ObjectMapper mapper) throws Exception {
+        return (AmortizationScheduleEntrySerializer) serializer(mapper, AmortizationScheduleEntry.class);
+    }
+
+    private static Object serializer(ObjectMapper mapper, Class<?> type) throws Exception {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type);
+    }
+
+    private static ObjectMapper mapper(boolean datesAsTimestamps, boolean withModule) {
+        return mapper(builder -> {
+            if (datesAsTimestamps) {
+                builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            }
+        }, withModule);
+    }
+
+    private static ObjectMapper mapper(Consumer<Jackson2ObjectMapperBuilder> customizer, boolean withModule) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        customizer.accept(builder);
+        if (withModule) {
+            builder.modulesToInstall(new JacksonConfig().loanCalculationModule());
+        }
+        return builder.build();
+    }
+
+    private static LoanCalculationRequest rollupsOnly(LoanCalculationRequest request) {
+        request.setRollups(EnumSet.allOf(RollupPeriod.class));
+        request.setIncludeSchedule(false);
+        return request;
+    }
+
+    private static LoanCalculationRequest request(String amount, String rate, int termMonths) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setLoanTermMonths(termMonths);
+        request.setStartDate(LocalDate.of(2024, 1, 31));
+        return request;
+    }
+}
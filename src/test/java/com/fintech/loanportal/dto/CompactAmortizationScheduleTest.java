@@ -0,0 +1,81 @@
+package com.fintech.loanportal.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class CompactAmortizationScheduleTest {
+
+    @Test
+    void rowViewMatchesOriginalEntries() {
+        List<AmortizationScheduleEntry> entries = entries("1250.00");
+
+        CompactAmortizationSchedule compact = CompactAmortizationSchedule.fromEntries(entries);
+
+        assertThat(compact).isNotNull();
+        List<AmortizationScheduleEntry> view = compact.asList();
+        assertThat(view).hasSize(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            AmortizationScheduleEntry expected = entries.get(i);
+            AmortizationScheduleEntry actual = view.get(i);
+            assertThat(actual.getPaymentNumber()).isEqualTo(expected.getPaymentNumber());
+            assertThat(actual.getPaymentDate()).isEqualTo(expected.getPaymentDate());
+            assertThat(actual.getPaymentAmount()).isEqualByComparingTo(expected.getPaymentAmount());
+            assertThat(actual.getPrincipal()).isEqualByComparingTo(expected.getPrincipal());
+            assertThat(actual.getInterest()).isEqualByComparingTo(expected.getInterest());
+            assertThat(actual.getRemainingBalance()).isEqualByComparingTo(expected.getRemainingBalance());
+            assertThat(actual.getCumulativeInterest()).isEqualByComparingTo(expected.getCumulativeInterest());
+        }
+    }
+
+    @Test
+    void subCentAmountsCannotBeCompacted() {
+        assertThat(CompactAmortizationSchedule.fromEntries(entries("1250.005"))).isNull();
+    }
+
+    @Test
+    void resultSerializesCompactScheduleAsEntries() throws Exception {
+        LoanCalculationResult result = LoanCalculationResult.builder()
+            .monthlyPayment(new BigDecimal("1250.00"))
+            .compactSchedule(CompactAmortizationSchedule.fromEntries(entries("1250.00")))
+            .build();
+
+        JsonNode json = new ObjectMapper().registerModule(new JavaTimeModule()).valueToTree(result);
+
+        assertThat(json.has("compactSchedule")).isFalse();
+        assertThat(json.get("amortizationSchedule")).hasSize(3);
+        assertThat(json.get("amortizationSchedule").get(2).get("remainingBalance").decimalValue())
+            .isEqualByComparingTo("0.00");
+    }
+
+    private static List<AmortizationScheduleEntry> entries(String payment) {
+        List<AmortizationScheduleEntry> entries = new ArrayList<>();
+        BigDecimal balance = new BigDecimal("3700.00");
+        BigDecimal cumulative = BigDecimal.ZERO;
+        for (int i = 1; i <= 3; i++) {
+            BigDecimal interest = new BigDecimal("25.00");
+            BigDecimal principal = i == 3 ? balance : new BigDecimal(payment).subtract(interest);
+            balance = balance.subtract(principal);
+            cumulative = cumulative.add(interest);
+            entries.add(AmortizationScheduleEntry.builder()
+                .paymentNumber(i)
+                .paymentDate(LocalDate.of(2024, 1, 31).plusMonths(i - 1))
+                .paymentAmount(new BigDecimal(payment))
+                .principalPayment(principal)
+                .interestPayment(interest)
+                .remainingBalance(balance)
+                .cumulativeInterest(cumulative)
+                .build());
+        }
+        return entries;
+    }
+}
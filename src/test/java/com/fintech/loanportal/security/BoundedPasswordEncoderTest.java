@@ -0,0 +1,93 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, registry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void hashesOnTheDedicatedPoolAndRecordsTimings() {
+        release.countDown();
+
+        assertThat(encoder.encode("secret")).isEqualTo("hashed:secret:password-hash-1");
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(encoder.matches("other", "hashed:secret")).isFalse();
+
+        assertThat(registry.get("password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("password.hash.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(registry.get("password.hash.queue.wait").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsHashesBeyondTheQueueBound() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("second", "x"));
+        while (registry.get("password.hash.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.matches("third", "x")).isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(registry.get("password.hash.rejected").tag("operation", "matches").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void propagatesHashingFailures() {
+        release.countDown();
+
+        assertThatThrownBy(() -> encoder.matches("secret", null)).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No stored hash");
+    }
+
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            await();
+            return "hashed:" + rawPassword + ":" + Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (encodedPassword == null) {
+                throw new IllegalArgumentException("No stored hash");
+            }
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
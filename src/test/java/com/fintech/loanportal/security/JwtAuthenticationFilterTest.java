@@ -0,0 +1,106 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider("test-secret-test-secret-test-secret-test");
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "tokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(filter, "customUserDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "principalCache", new PrincipalCache(
+            userDetailsService::loadUserById, 100, Duration.ofMinutes(1), Duration.ofDays(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void skipsPublicEndpoints() {
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate/schedule"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/auth/login"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/loans/rates"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/actuator/health"))).isTrue();
+    }
+
+    @Test
+    void filtersProtectedEndpoints() {
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/apply"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/loans/calculate"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate/batch"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate/grid"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate/affordability"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/loans/calculate/prepayment"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/admin/statistics"))).isFalse();
+    }
+
+    @Test
+    void authenticatesFromClaimsWithoutLoadingTheUser() throws Exception {
+        Authentication authentication = authenticate(request("GET", "/api/users/profile"), token(5L, "ROLE_ADMIN"));
+
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(UserPrincipal.class,
+            principal -> assertThat(principal.getId()).isEqualTo(5L));
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void loadsTheUserInDatabaseMode() throws Exception {
+        ReflectionTestUtils.setField(filter, "principalSource", PrincipalSource.DATABASE);
+        UserPrincipal stored = new UserPrincipal(5L, "user5@example.com", "hash",
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(userDetailsService.loadUserById(5L)).thenReturn(stored);
+
+        Authentication authentication = authenticate(request("GET", "/api/users/profile"), token(5L, "ROLE_ADMIN"));
+
+        assertThat(authentication.getPrincipal()).isSameAs(stored);
+        verify(userDetailsService).loadUserById(5L);
+    }
+
+    private Authentication authenticate(MockHttpServletRequest request, String token) throws Exception {
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String token(long userId, String role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user" + userId + "@example.com", "",
+            List.of(new SimpleGrantedAuthority(role)));
+        return tokenProvider.generateAccessToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET);
+
+    @Test
+    void parsesAccessTokenClaimsInOnePass() {
+        String token = tokenProvider.generateAccessToken(authentication(7L, "ROLE_USER", "ROLE_ADMIN"));
+
+        AccessTokenClaims claims = tokenProvider.parseAccessToken(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.email()).isEqualTo("user7@example.com");
+        assertThat(claims.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(claims.tokenType()).isEqualTo("ACCESS");
+        assertThat(claims.expiration()).isEqualTo(tokenProvider.getExpirationDateFromToken(token));
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void rejectsRefreshTamperedAndForeignTokens() {
+        Authentication authentication = authentication(7L, "ROLE_USER");
+        String token = tokenProvider.generateAccessToken(authentication);
+        String foreign = new JwtTokenProvider(SECRET.replace('t', 'x')).generateAccessToken(authentication);
+
+        assertThat(tokenProvider.parseAccessToken(tokenProvider.generateRefreshToken(authentication))).isNull();
+        assertThat(tokenProvider.parseAccessToken(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(tokenProvider.parseAccessToken(foreign)).isNull();
+        assertThat(tokenProvider.parseAccessToken("not-a-token")).isNull();
+    }
+
+    private static Authentication authentication(long userId, String... roles) {
+        UserPrincipal principal = new UserPrincipal(userId, "user" + userId + "@example.com", "",
+            List.of(roles).stream().map(SimpleGrantedAuthority::new).toList());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,84 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final PrincipalCache principalCache = new PrincipalCache(this::load, 100, Duration.ofMinutes(1),
+        Duration.ofDays(1));
+
+    @Test
+    void buildsPrincipalFromClaimsWithoutLoading() {
+        UserPrincipal principal = principalCache.resolve(claims(7L, System.currentTimeMillis(), "ROLE_USER"));
+
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("user7@example.com");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void loadsUsersInvalidatedAfterTheirTokenWasIssued() {
+        AccessTokenClaims stale = claims(7L, System.currentTimeMillis() - 30_000, "ROLE_USER");
+        principalCache.invalidate(7L);
+
+        assertThat(principalCache.resolve(stale).getAuthorities())
+            .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        principalCache.resolve(stale);
+        assertThat(loads).hasValue(1);
+
+        // Other users and tokens issued after the change still come from claims
+        assertThat(principalCache.resolve(claims(8L, System.currentTimeMillis() - 30_000, "ROLE_USER")).getPassword())
+            .isNull();
+        assertThat(principalCache.resolve(claims(7L, System.currentTimeMillis() + 2_000, "ROLE_ADMIN")).getPassword())
+            .isNull();
+        assertThat(loads).hasValue(1);
+
+        principalCache.invalidate(7L);
+        principalCache.resolve(stale);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadsTokensOlderThanTheTimeToLiveWithoutInvalidation() {
+        AccessTokenClaims old = claims(7L, System.currentTimeMillis() - 120_000, "ROLE_USER");
+
+        assertThat(principalCache.resolve(old).getAuthorities())
+            .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        principalCache.resolve(claims(7L, System.currentTimeMillis() - 90_000, "ROLE_USER"));
+        assertThat(loads).hasValue(1);
+
+        assertThat(principalCache.resolve(claims(7L, System.currentTimeMillis() - 5_000, "ROLE_USER")).getPassword())
+            .isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> new PrincipalCache(this::load, 100, Duration.ZERO, Duration.ofDays(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UserPrincipal load(Long userId) {
+        loads.incrementAndGet();
+        return new UserPrincipal(userId, "user" + userId + "@example.com", "hash",
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+
+    private static AccessTokenClaims claims(long userId, long issuedAtMillis, String... roles) {
+        return new AccessTokenClaims(userId, "user" + userId + "@example.com", List.of(roles), "ACCESS",
+            new Date(issuedAtMillis), new Date(issuedAtMillis + 3_600_000));
+    }
+}
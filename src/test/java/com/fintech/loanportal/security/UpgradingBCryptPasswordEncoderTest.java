@@ -0,0 +1,55 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class UpgradingBCryptPasswordEncoderTest {
+
+    private final UpgradingBCryptPasswordEncoder encoder = new UpgradingBCryptPasswordEncoder(5);
+
+    @Test
+    void hashesRecordAlgorithmAndCost() {
+        String hash = encoder.encode("s3cret!");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("s3cret!", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void verifiesAllHashesAndUpgradesOnlyWeakerOnes() {
+        String legacy = new BCryptPasswordEncoder(4).encode("s3cret!");
+        String weaker = "{bcrypt}" + legacy;
+        String stronger = "{bcrypt}" + new BCryptPasswordEncoder(6).encode("s3cret!");
+
+        assertThat(encoder.matches("s3cret!", legacy)).isTrue();
+        assertThat(encoder.matches("s3cret!", weaker)).isTrue();
+        assertThat(encoder.matches("s3cret!", stronger)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    void readsCostFromBcryptHashes() {
+        assertThat(UpgradingBCryptPasswordEncoder.costOf("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+        assertThat(UpgradingBCryptPasswordEncoder.costOf("$2y$04$abcdefghijklmnopqrstuv")).isEqualTo(4);
+        assertThat(UpgradingBCryptPasswordEncoder.costOf("plain")).isEqualTo(-1);
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertThat(UpgradingBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 5, 8)).isEqualTo(5);
+        assertThat(UpgradingBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+        assertThatThrownBy(() -> UpgradingBCryptPasswordEncoder.calibrate(Duration.ofSeconds(1), 8, 6))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UpgradingBCryptPasswordEncoder(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fintech.loanportal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void verifiesEachTokenOnceWhileCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(5));
+        Function<String, AccessTokenClaims> verifier = verifier(Duration.ofHours(1));
+
+        AccessTokenClaims first = cache.get("token-a", verifier);
+        assertThat(cache.get("token-a", verifier)).isSameAs(first);
+        cache.get("token-b", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.hitRatio()).isCloseTo(1.0 / 3, within(1e-9));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        assertThat(registry.get("cache.gets").tag("cache", VerifiedTokenCache.NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.hit.ratio").gauge().value()).isEqualTo(cache.hitRatio());
+    }
+
+    @Test
+    void doesNotCacheRejectedTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(5));
+        Function<String, AccessTokenClaims> rejecting = token -> {
+            verifications.incrementAndGet();
+            return null;
+        };
+
+        assertThat(cache.get("forged", rejecting)).isNull();
+        assertThat(cache.get("forged", rejecting)).isNull();
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryCall() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, Duration.ofMinutes(5));
+        Function<String, AccessTokenClaims> verifier = verifier(Duration.ofHours(1));
+
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void entriesNeverOutliveTheirToken() {
+        long now = 1_700_000_000_000L;
+        long ttl = Duration.ofMinutes(10).toNanos();
+
+        assertThat(VerifiedTokenCache.lifetimeNanos(claimsExpiringAt(now + 60_000), now, ttl))
+            .isEqualTo(Duration.ofMinutes(1).toNanos());
+        assertThat(VerifiedTokenCache.lifetimeNanos(claimsExpiringAt(now + 86_400_000), now, ttl)).isEqualTo(ttl);
+        assertThat(VerifiedTokenCache.lifetimeNanos(claimsExpiringAt(now - 1), now, ttl)).isZero();
+        assertThat(VerifiedTokenCache.lifetimeNanos(claimsExpiringAt(null), now, ttl)).isZero();
+    }
+
+    @Test
+    void expiredTokensAreVerifiedAgain() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(5));
+        Function<String, AccessTokenClaims> verifier = verifier(Duration.ofMillis(-1));
+
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> new VerifiedTokenCache(true, 0, Duration.ofMinutes(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new VerifiedTokenCache(true, 100, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Function<String, AccessTokenClaims> verifier(Duration validFor) {
+        return token -> {
+            verifications.incrementAndGet();
+            return claimsExpiringAt(System.currentTimeMillis() + validFor.toMillis());
+        };
+    }
+
+    private static AccessTokenClaims claimsExpiringAt(Long expiresAtMillis) {
+        return new AccessTokenClaims(1L, "user@example.com", List.of("ROLE_USER"), "ACCESS", null,
+            expiresAtMillis != null ? new Date(expiresAtMillis) : null);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.fintech.loanportal.dto.AffordabilitySurface;
+import com.fintech.loanportal.dto.AffordabilitySurfaceRequest;
+
+class AnnuityFactorCacheTest {
+
+    @Test
+    void countsHitsAndMisses() {
+        AnnuityFactorCache cache = new AnnuityFactorCache(64);
+
+        long first = cache.paymentFactorE8(562_500, 360);
+        long second = cache.paymentFactorE8(562_500, 360);
+        cache.affordabilityFactorE8(562_500, 360);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void capacityIsRoundedToPowerOfTwo() {
+        assertThat(new AnnuityFactorCache(1000).getCapacity()).isEqualTo(1024);
+        assertThat(new AnnuityFactorCache(1024).getCapacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void sizeCountsOccupiedSlots() {
+        AnnuityFactorCache cache = new AnnuityFactorCache(8);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        assertThat(registry.get("cache.size").gauge().value()).isZero();
+
+        for (int termMonths = 1; termMonths <= 100; termMonths++) {
+            cache.paymentFactorE8(562_500, termMonths);
+        }
+        cache.paymentFactorE8(562_500, 100);
+
+        assertThat(cache.getSize()).isBetween(1L, 8L);
+        assertThat(registry.get("cache.size").gauge().value()).isEqualTo(cache.getSize());
+        assertThat(registry.get("cache.capacity").gauge().value()).isEqualTo(8);
+    }
+
+    @Test
+    void factorsMatchExactFormulasEvenWhenSlotsCollide() {
+        AnnuityFactorCache cache = new AnnuityFactorCache(8);
+        Random random = new Random(42L);
+        for (int i = 0; i < 1000; i++) {
+            long monthlyRateE8 = 1 + random.nextInt(2_500_000);
+            int termMonths = 1 + random.nextInt(480);
+            assertThat(cache.paymentFactorE8(monthlyRateE8, termMonths))
+                .isEqualTo(FixedPointLoanMath.exactPaymentFactor(monthlyRateE8, termMonths).unscaledValue().longValue());
+            assertThat(cache.affordabilityFactorE8(monthlyRateE8, termMonths))
+                .isEqualTo(FixedPointLoanMath.exactAffordabilityFactor(monthlyRateE8, termMonths).unscaledValue().longValue());
+        }
+    }
+
+    @Test
+    void maxAffordableLoanMatchesDirectFormula() {
+        LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+        BigDecimal income = new BigDecimal("8500.00");
+        BigDecimal debt = new BigDecimal("650.00");
+        BigDecimal rate = new BigDecimal("6.75");
+
+        BigDecimal monthlyRate = rate.divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
+            .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);
+        BigDecimal power = BigDecimal.ONE.add(monthlyRate).pow(360);
+        BigDecimal factor = power.subtract(BigDecimal.ONE).divide(monthlyRate.multiply(power), 8, RoundingMode.HALF_UP);
+        BigDecimal expected = income.multiply(new BigDecimal("0.43")).subtract(debt).multiply(factor)
+            .setScale(2, RoundingMode.HALF_UP);
+
+        assertThat(service.calculateMaxAffordableLoan(income, debt, rate, 360, null)).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void affordabilitySurfaceMatchesPerCallLoop() {
+        LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+        AffordabilitySurfaceRequest request = new AffordabilitySurfaceRequest();
+        request.setMonthlyIncome(new BigDecimal("8512.37"));
+        request.setExistingDebt(new BigDecimal("2650.00"));
+        request.setDebtToIncomeRatios(List.of(new BigDecimal("0.28"), new BigDecimal("0.36"), new BigDecimal("0.435")));
+
+        AffordabilitySurface surface = service.calculateAffordabilitySurface(request);
+
+        assertThat(surface.getLoanTypes()).isSorted().hasSize(service.getCurrentInterestRates().size());
+        assertThat(surface.getMaxLoanAmountCents()[0][0]).containsOnly(0L);
+        for (int d = 0; d < surface.getDebtToIncomeRatios().size(); d++) {
+            for (int r = 0; r < surface.getLoanTypes().size(); r++) {
+                for (int t = 0; t < surface.getTermMonths().length; t++) {
+                    BigDecimal expected = service.calculateMaxAffordableLoan(request.getMonthlyIncome(),
+                        request.getExistingDebt(), surface.getInterestRates().get(r), surface.getTermMonths()[t],
+                        surface.getDebtToIncomeRatios().get(d));
+                    assertThat(FixedPointLoanMath.fromCents(surface.getMaxLoanAmountCents()[d][r][t]))
+                        .isEqualByComparingTo(expected);
+                }
+            }
+        }
+    }
+}
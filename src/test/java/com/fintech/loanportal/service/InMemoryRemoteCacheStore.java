@@ -0,0 +1,47 @@
+package com.fintech.loanportal.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis stand-in for tests. Can be switched into a failing state to simulate
+ * an outage.
+ */
+class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    volatile boolean down;
+    int calls;
+
+    @Override
+    public byte[] get(String key) {
+        call();
+        return entries.get(key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        call();
+        entries.put(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        call();
+        entries.remove(key);
+    }
+
+    @Override
+    public void deleteByPrefix(String prefix) {
+        call();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void call() {
+        calls++;
+        if (down) {
+            throw new IllegalStateException("Remote store unavailable");
+        }
+    }
+}
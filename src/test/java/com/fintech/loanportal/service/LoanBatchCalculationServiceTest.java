@@ -0,0 +1,85 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+
+class LoanBatchCalculationServiceTest {
+
+    private final LoanBatchCalculationService batchService = new LoanBatchCalculationService();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchService, "loanCalculationService", new LoanCalculationService(new AnnuityFactorCache()));
+        ReflectionTestUtils.setField(batchService, "loanCalculationPool", pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void returnsResultsInRequestOrder() {
+        List<LoanCalculationRequest> requests = new ArrayList<>();
+        for (int term = 12; term <= 360; term += 12) {
+            requests.add(request("25000.00", "7.25", term));
+        }
+
+        List<LoanCalculationResult> results = batchService.calculateBatch(requests, false);
+
+        assertThat(results).hasSize(requests.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getTermMonths()).isEqualTo(requests.get(i).getLoanTermMonths());
+            assertThat(results.get(i).getAmortizationSchedule()).hasSize(requests.get(i).getLoanTermMonths());
+        }
+    }
+
+    @Test
+    void summaryOnlySkipsSchedules() {
+        List<LoanCalculationResult> results = batchService.calculateBatch(
+            List.of(request("25000.00", "7.25", 60), request("300000", "6.5", 360)), true);
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getMonthlyPayment()).isPositive();
+            assertThat(result.getAmortizationSchedule()).isNull();
+        });
+    }
+
+    @Test
+    void reportsEveryInvalidRequestAtOnce() {
+        List<LoanCalculationRequest> requests = List.of(
+            request("25000.00", "7.25", 60),
+            request("10.00", "7.25", 60),
+            request("25000.00", "45", 60),
+            request("25000.00", "7.25", 600));
+
+        assertThatThrownBy(() -> batchService.calculateBatch(requests, false))
+            .isInstanceOfSatisfying(LoanBatchValidationException.class, e ->
+                assertThat(e.getErrors()).hasSize(3)
+                    .anySatisfy(error -> assertThat(error).startsWith("[1]"))
+                    .anySatisfy(error -> assertThat(error).startsWith("[2]"))
+                    .anySatisfy(error -> assertThat(error).startsWith("[3]")));
+    }
+
+    private static LoanCalculationRequest request(String amount, String rate, int termMonths) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setLoanTermMonths(termMonths);
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+/**
+ * Every {@link LoanCalculationEngine} must agree to the cent with the
+ * uncached BigDecimal reference that CROSS_CHECK returns, with and without
+ * the cache's fast paths.
+ */
+class LoanCalculationEngineConformanceTest {
+
+    private final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+
+    @Test
+    void everyEngineMatchesTheReferenceOnARandomCorpus() {
+        for (LoanCalculationRequest request : corpus()) {
+            LoanCalculationResult reference = service.calculateLoan(request, AmortizationEngine.CROSS_CHECK);
+            assertWellFormed(request, reference);
+
+            for (AmortizationEngine engine : AmortizationEngine.values()) {
+                assertThat(LoanCalculationService.findMismatch(reference, service.calculateLoan(request, engine)))
+                    .as("%s amount=%s rate=%s term=%s rollups=%s schedule=%s", engine, request.getLoanAmount(),
+                        request.getInterestRate(), request.getLoanTermMonths(), request.getRollups(),
+                        request.isIncludeSchedule())
+                    .isNull();
+
+                service.setEngine(engine);
+                assertThat(LoanCalculationService.findMismatch(reference, service.calculateLoan(request)))
+                    .as("configured %s", engine)
+                    .isNull();
+            }
+        }
+    }
+
+    @Test
+    void pluggedEngineReplacesTheBuiltInOfItsType() {
+        AtomicInteger calls = new AtomicInteger();
+        LoanCalculationEngine fixedPoint = service.getCalculationEngine(AmortizationEngine.FIXED_POINT);
+        service.setCalculationEngines(List.of(new LoanCalculationEngine() {
+            @Override
+            public AmortizationEngine getType() {
+                return AmortizationEngine.FIXED_POINT;
+            }
+
+            @Override
+            public LoanCalculationResult calculate(LoanCalculationRequest request) {
+                calls.incrementAndGet();
+                return fixedPoint.calculate(request);
+            }
+        }));
+        LoanCalculationRequest request = request(new BigDecimal("250000.00"), new BigDecimal("6.5"), 360);
+
+        service.setEngine(AmortizationEngine.FIXED_POINT);
+        service.calculateLoan(request);
+        service.calculateLoan(request, AmortizationEngine.CROSS_CHECK);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private static void assertWellFormed(LoanCalculationRequest request, LoanCalculationResult result) {
+        List<AmortizationScheduleEntry> rows = result.getAmortizationSchedule();
+        if (!request.isIncludeSchedule()) {
+            assertThat(rows).isNull();
+            return;
+        }
+        assertThat(rows).hasSize(request.getLoanTermMonths());
+        assertThat(rows.stream().map(AmortizationScheduleEntry::getPrincipal).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .isEqualByComparingTo(request.getLoanAmount());
+        assertThat(rows.get(rows.size() - 1).getRemainingBalance()).isZero();
+    }
+
+    private static List<LoanCalculationRequest> corpus() {
+        Random random = new Random(17L);
+        List<LoanCalculationRequest> corpus = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            BigDecimal amount = i % 8 == 0
+                ? BigDecimal.valueOf(1_000_000 + random.nextInt(1_000_000_000), 3)
+                : BigDecimal.valueOf(100_000 + random.nextInt(1_000_000_000), 2);
+            LoanCalculationRequest request = request(amount, BigDecimal.valueOf(random.nextInt(3001), 2),
+                1 + random.nextInt(480));
+            if (i % 3 == 0) {
+                request.setRollups(EnumSet.allOf(RollupPeriod.class));
+                request.setIncludeSchedule(i % 2 == 0);
+            }
+            corpus.add(request);
+        }
+        corpus.add(request(new BigDecimal("10000"), BigDecimal.ZERO, 7));
+        corpus.add(request(new BigDecimal("25000.55"), new BigDecimal("6.75"), 1));
+        corpus.add(request(new BigDecimal("10000000.00"), new BigDecimal("30.00"), 480));
+        return corpus;
+    }
+
+    private static LoanCalculationRequest request(BigDecimal amount, BigDecimal rate, int termMonths) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(amount);
+        request.setInterestRate(rate);
+        request.setLoanTermMonths(termMonths);
+        request.setStartDate(LocalDate.of(2024, 1, 15));
+        return request;
+    }
+}
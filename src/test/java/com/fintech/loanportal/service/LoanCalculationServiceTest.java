@@ -0,0 +1,220 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fintech.loanportal.dto.AmortizationRollup;
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.AmortizationSchedulePage;
+import com.fintech.loanportal.dto.CompactAmortizationSchedule;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.PaymentGrid;
+import com.fintech.loanportal.dto.PaymentGridRequest;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+class LoanCalculationServiceTest {
+
+    private final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+
+    @Test
+    void fixedPointEngineMatchesBigDecimalEngineToTheCent() {
+        Random random = new Random(20240101L);
+        for (int i = 0; i < 300; i++) {
+            LoanCalculationRequest request = request(
+                BigDecimal.valueOf(100_000 + random.nextInt(1_000_000_000), 2),
+                BigDecimal.valueOf(random.nextInt(3001), 2),
+                1 + random.nextInt(480));
+
+            LoanCalculationResult expected = calculate(AmortizationEngine.BIG_DECIMAL, request);
+            LoanCalculationResult actual = calculate(AmortizationEngine.FIXED_POINT, request);
+
+            assertThat(LoanCalculationService.findMismatch(expected, actual))
+                .as("amount=%s rate=%s term=%s", request.getLoanAmount(), request.getInterestRate(),
+                    request.getLoanTermMonths())
+                .isNull();
+        }
+    }
+
+    @Test
+    void fixedPointEngineHandlesZeroRateAndSingleMonthTerms() {
+        for (LoanCalculationRequest request : new LoanCalculationRequest[] {
+                request(new BigDecimal("10000"), BigDecimal.ZERO, 7),
+                request(new BigDecimal("25000.55"), new BigDecimal("6.75"), 1),
+                request(new BigDecimal("10000000.00"), new BigDecimal("30.00"), 480) }) {
+            assertThat(LoanCalculationService.findMismatch(
+                calculate(AmortizationEngine.BIG_DECIMAL, request),
+                calculate(AmortizationEngine.FIXED_POINT, request))).isNull();
+        }
+    }
+
+    @Test
+    void paymentFactorMatchesExactFormula() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 2000; i++) {
+            long monthlyRateE8 = 1 + random.nextInt(2_500_000);
+            int termMonths = 1 + random.nextInt(480);
+            assertThat(FixedPointLoanMath.paymentFactorE8(monthlyRateE8, termMonths))
+                .isEqualTo(FixedPointLoanMath.exactPaymentFactor(monthlyRateE8, termMonths).unscaledValue().longValue());
+        }
+    }
+
+    @Test
+    void schedulePageMatchesFullScheduleRows() {
+        LoanCalculationRequest request = request(new BigDecimal("450000.00"), new BigDecimal("6.75"), 480);
+        LoanCalculationResult full = calculate(AmortizationEngine.BIG_DECIMAL, request);
+
+        AmortizationSchedulePage page = service.getSchedulePage(request, 470, 25);
+
+        assertThat(page.getTotalEntries()).isEqualTo(480);
+        assertThat(page.getEntries()).hasSize(10);
+        assertThat(page.isHasMore()).isFalse();
+        LoanCalculationResult pageAsResult = LoanCalculationResult.builder()
+            .monthlyPayment(page.getMonthlyPayment())
+            .amortizationSchedule(page.getEntries())
+            .build();
+        LoanCalculationResult fullTail = LoanCalculationResult.builder()
+            .monthlyPayment(full.getMonthlyPayment())
+            .amortizationSchedule(full.getAmortizationSchedule().subList(470, 480))
+            .build();
+        assertThat(LoanCalculationService.findMismatch(fullTail, pageAsResult)).isNull();
+    }
+
+    @Test
+    void scheduleIteratorAndSummaryMatchMaterializedResult() {
+        LoanCalculationRequest request = request(new BigDecimal("320000"), new BigDecimal("5.25"), 360);
+        for (AmortizationEngine engine : AmortizationEngine.values()) {
+            LoanCalculationResult full = calculate(engine, request);
+            List<AmortizationScheduleEntry> streamed = new ArrayList<>();
+            service.scheduleIterator(request).forEachRemaining(streamed::add);
+
+            LoanCalculationResult summary = service.calculateLoanSummary(request);
+            summary.setAmortizationSchedule(streamed);
+
+            assertThat(LoanCalculationService.findMismatch(full, summary)).as(engine.name()).isNull();
+        }
+    }
+
+    @Test
+    void closedFormStaysWithinRoundingDriftOfIterativeSchedule() {
+        long principalCents = 45_000_000L;
+        long monthlyRateE8 = FixedPointLoanMath.monthlyRateE8(new BigDecimal("6.75"));
+        long paymentCents = FixedPointLoanMath.monthlyPaymentCents(principalCents, monthlyRateE8, 360);
+        AmortizationCursor cursor = new AmortizationCursor(principalCents, monthlyRateE8, paymentCents, 360);
+        ClosedFormAmortization closedForm = new ClosedFormAmortization(principalCents, monthlyRateE8, paymentCents);
+
+        while (cursor.getPaymentNumber() < 359 && cursor.next()) {
+            int k = cursor.getPaymentNumber();
+            assertThat(Math.abs(cursor.getBalanceCents() - closedForm.balanceAfter(k)))
+                .isLessThanOrEqualTo(closedForm.driftBoundCents(k));
+        }
+    }
+
+    @Test
+    void paymentGridMatchesIndividualCalculations() {
+        Random random = new Random(99L);
+        List<BigDecimal> rates = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            rates.add(BigDecimal.valueOf(random.nextInt(3001), 2));
+        }
+        rates.add(BigDecimal.ZERO);
+        List<Integer> terms = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            terms.add(1 + random.nextInt(480));
+        }
+        terms.add(terms.get(3));
+        PaymentGridRequest gridRequest = new PaymentGridRequest();
+        gridRequest.setLoanAmount(new BigDecimal("387512.34"));
+        gridRequest.setInterestRates(rates);
+        gridRequest.setTermMonths(terms);
+
+        PaymentGrid grid = service.calculatePaymentGrid(gridRequest);
+
+        for (int r = 0; r < rates.size(); r++) {
+            for (int t = 0; t < terms.size(); t++) {
+                LoanCalculationResult expected = service.calculateLoanSummary(
+                    request(gridRequest.getLoanAmount(), rates.get(r), terms.get(t)));
+                assertThat(FixedPointLoanMath.fromCents(grid.getMonthlyPaymentCents()[r][t]))
+                    .as("rate=%s term=%s", rates.get(r), terms.get(t))
+                    .isEqualByComparingTo(expected.getMonthlyPayment());
+                assertThat(FixedPointLoanMath.fromCents(grid.getTotalInterestCents()[r][t]))
+                    .isEqualByComparingTo(expected.getTotalInterest());
+            }
+        }
+    }
+
+    @Test
+    void rollupsSumMonthlyRowsAndDoNotNeedThem() {
+        for (AmortizationEngine engine : AmortizationEngine.values()) {
+            LoanCalculationRequest request = request(new BigDecimal("250000.00"), new BigDecimal("6.5"), 62);
+            request.setRollups(EnumSet.allOf(RollupPeriod.class));
+            LoanCalculationResult full = calculate(engine, request);
+            request.setIncludeSchedule(false);
+            LoanCalculationResult rollupsOnly = calculate(engine, request);
+
+            List<AmortizationScheduleEntry> rows = full.getAmortizationSchedule();
+            assertThat(full.getQuarterlyRollups()).hasSize(21);
+            assertThat(full.getYearlyRollups()).hasSize(6);
+            for (AmortizationRollup year : full.getYearlyRollups()) {
+                List<AmortizationScheduleEntry> months =
+                    rows.subList(year.getFirstPaymentNumber() - 1, year.getLastPaymentNumber());
+                assertThat(year.getInterest()).isEqualByComparingTo(
+                    months.stream().map(AmortizationScheduleEntry::getInterest).reduce(BigDecimal.ZERO, BigDecimal::add));
+                assertThat(year.getPrincipal()).isEqualByComparingTo(
+                    months.stream().map(AmortizationScheduleEntry::getPrincipal).reduce(BigDecimal.ZERO, BigDecimal::add));
+                assertThat(year.getEndingBalance()).isEqualByComparingTo(months.get(months.size() - 1).getRemainingBalance());
+                assertThat(year.getEndDate()).isEqualTo(months.get(months.size() - 1).getPaymentDate());
+            }
+            assertThat(full.getYearlyRollups().get(5).getFirstPaymentNumber()).isEqualTo(61);
+
+            assertThat(rollupsOnly.getAmortizationSchedule()).isNull();
+            assertThat(rollupsOnly.getYearlyRollups()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(full.getYearlyRollups());
+            assertThat(rollupsOnly.getQuarterlyRollups()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(full.getQuarterlyRollups());
+        }
+
+        LoanCalculationRequest subCent = request(new BigDecimal("10000.005"), new BigDecimal("4.25"), 24);
+        subCent.setRollups(EnumSet.of(RollupPeriod.YEARLY));
+        subCent.setIncludeSchedule(false);
+        LoanCalculationResult result = calculate(AmortizationEngine.BIG_DECIMAL, subCent);
+        assertThat(result.getYearlyRollups()).hasSize(2);
+        assertThat(result.getYearlyRollups().get(1).getEndingBalance()).isZero();
+    }
+
+    @Test
+    void bigDecimalEngineStoresWholeCentSchedulesCompactly() {
+        LoanCalculationResult wholeCents = calculate(AmortizationEngine.BIG_DECIMAL,
+            request(new BigDecimal("250000.00"), new BigDecimal("6.5"), 360));
+        LoanCalculationResult subCent = calculate(AmortizationEngine.BIG_DECIMAL,
+            request(new BigDecimal("250000.005"), new BigDecimal("6.5"), 360));
+
+        assertThat(CompactAmortizationSchedule.viewedBy(wholeCents.getAmortizationSchedule())).isNotNull();
+        assertThat(wholeCents.getAmortizationSchedule()).hasSize(360);
+        assertThat(wholeCents.getAmortizationSchedule().get(359).getRemainingBalance()).isZero();
+        assertThat(CompactAmortizationSchedule.viewedBy(subCent.getAmortizationSchedule())).isNull();
+        assertThat(subCent.getAmortizationSchedule()).hasSize(360);
+    }
+
+    private LoanCalculationResult calculate(AmortizationEngine engine, LoanCalculationRequest request) {
+        service.setEngine(engine);
+        return service.calculateLoan(request);
+    }
+
+    private static LoanCalculationRequest request(BigDecimal amount, BigDecimal rate, int termMonths) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(amount);
+        request.setInterestRate(rate);
+        request.setLoanTermMonths(termMonths);
+        request.setStartDate(LocalDate.of(2024, 1, 15));
+        return request;
+    }
+}
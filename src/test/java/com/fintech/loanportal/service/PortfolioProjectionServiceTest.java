@@ -0,0 +1,115 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.PortfolioCashFlowProjection;
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+class PortfolioProjectionServiceTest {
+
+    private final PortfolioProjectionService projectionService = new PortfolioProjectionService(new AnnuityFactorCache());
+    private final LoanApplicationRepository repository = mock(LoanApplicationRepository.class);
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final List<LoanTermsView> book = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projectionService, "loanApplicationRepository", repository);
+        ReflectionTestUtils.setField(projectionService, "loanCalculationPool", pool);
+        ReflectionTestUtils.setField(projectionService, "chunkSize", 3);
+        when(repository.findLoanTermsAfter(any(), anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            Pageable page = invocation.getArgument(2);
+            return book.stream().filter(loan -> loan.id() > afterId).limit(page.getPageSize()).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sumsEveryLoanScheduleIntoItsPaymentMonths() {
+        for (int i = 1; i <= 10; i++) {
+            book.add(loan(i, "25000.00", "7.25", 12 * i, LocalDateTime.of(2024, 12, 10, 9, 0)));
+        }
+
+        PortfolioCashFlowProjection projection = projectionService.projectCashFlows(YearMonth.of(2025, 1), 120);
+
+        assertThat(projection.getLoanCount()).isEqualTo(10);
+        assertThat(projection.getTotalPrincipalCents()).isEqualTo(10 * 2_500_000L);
+        long expectedInterest = 0;
+        long expectedJanuaryInterest = 0;
+        for (LoanTermsView loan : book) {
+            List<AmortizationScheduleEntry> rows = schedule(loan);
+            expectedInterest += rows.stream().mapToLong(row -> FixedPointLoanMath.toCents(row.getInterest())).sum();
+            expectedJanuaryInterest += FixedPointLoanMath.toCents(rows.get(0).getInterest());
+        }
+        assertThat(projection.getTotalInterestCents()).isEqualTo(expectedInterest);
+        assertThat(projection.getInterestCents()[0]).isEqualTo(expectedJanuaryInterest);
+    }
+
+    @Test
+    void clipsSchedulesToTheHorizon() {
+        book.add(loan(1, "300000.00", "6.5", 360, LocalDateTime.of(2020, 5, 1, 0, 0)));
+        book.add(loan(2, "10000.00", "5", 24, LocalDateTime.of(2019, 1, 1, 0, 0)));
+        book.add(loan(3, "50000.00", "9.75", 60, LocalDateTime.of(2030, 1, 1, 0, 0)));
+
+        PortfolioCashFlowProjection projection = projectionService.projectCashFlows(YearMonth.of(2025, 6), 12);
+
+        // Loan 1 is on payments 61-72, loan 2 is paid off and loan 3 has not started
+        List<AmortizationScheduleEntry> rows = schedule(book.get(0));
+        for (int month = 0; month < 12; month++) {
+            AmortizationScheduleEntry row = rows.get(60 + month);
+            assertThat(projection.getPrincipalCents()[month]).isEqualTo(FixedPointLoanMath.toCents(row.getPrincipal()));
+            assertThat(projection.getInterestCents()[month]).isEqualTo(FixedPointLoanMath.toCents(row.getInterest()));
+        }
+        assertThat(projection.getLoanCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsHorizonOutsideLimits() {
+        assertThatThrownBy(() -> projectionService.projectCashFlows(YearMonth.of(2025, 1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> projectionService.projectCashFlows(YearMonth.of(2025, 1), 601))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<AmortizationScheduleEntry> schedule(LoanTermsView loan) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(loan.loanAmount());
+        request.setInterestRate(loan.interestRate());
+        request.setLoanTermMonths(loan.loanTermMonths());
+        request.setStartDate(LocalDate.from(loan.originatedAt()).plusMonths(1));
+        return new LoanCalculationService(new AnnuityFactorCache()).calculateLoan(request).getAmortizationSchedule();
+    }
+
+    private static LoanTermsView loan(long id, String amount, String rate, int termMonths, LocalDateTime originatedAt) {
+        return new LoanTermsView(id, new BigDecimal(amount), new BigDecimal(rate), termMonths, LoanType.PERSONAL,
+            originatedAt, null, null, null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.loanportal.dto.PortfolioRiskSimulation;
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+import com.fintech.loanportal.entity.LoanApplication.RiskLevel;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+class PortfolioRiskSimulationServiceTest {
+
+    private static final YearMonth VALUATION_MONTH = YearMonth.of(2025, 1);
+
+    private final LoanApplicationRepository repository = mock(LoanApplicationRepository.class);
+    private final List<ForkJoinPool> pools = new ArrayList<>();
+    private final List<LoanTermsView> book = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findLoanTermsAfter(any(), anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            Pageable page = invocation.getArgument(2);
+            return book.stream().filter(loan -> loan.id() > afterId).limit(page.getPageSize()).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(ForkJoinPool::shutdownNow);
+    }
+
+    @Test
+    void sameSeedReproducesResultsOnAnyParallelism() {
+        addLoans(RiskLevel.MEDIUM, 200);
+
+        PortfolioRiskSimulation single = simulator(1).simulate(VALUATION_MONTH, 500, 42L);
+        PortfolioRiskSimulation parallel = simulator(8).simulate(VALUATION_MONTH, 500, 42L);
+        PortfolioRiskSimulation otherSeed = simulator(8).simulate(VALUATION_MONTH, 500, 43L);
+
+        assertThat(parallel).usingRecursiveComparison().isEqualTo(single);
+        assertThat(otherSeed.getExpectedLossCents()).isNotEqualTo(single.getExpectedLossCents());
+    }
+
+    @Test
+    void lossesGrowWithRiskAndStayWithinExposure() {
+        addLoans(RiskLevel.LOW, 100);
+        PortfolioRiskSimulation low = simulator(4).simulate(VALUATION_MONTH, 400, 7L);
+        book.clear();
+        addLoans(RiskLevel.VERY_HIGH, 100);
+        PortfolioRiskSimulation high = simulator(4).simulate(VALUATION_MONTH, 400, 7L);
+
+        assertThat(low.getLoanCount()).isEqualTo(100);
+        assertThat(high.getExpectedLossCents()).isGreaterThan(3 * low.getExpectedLossCents());
+        for (PortfolioRiskSimulation result : List.of(low, high)) {
+            assertThat(result.getExpectedLossCents()).isPositive()
+                .isLessThanOrEqualTo(result.getLossP95Cents());
+            assertThat(result.getLossP95Cents()).isLessThanOrEqualTo(result.getLossP99Cents());
+            assertThat(result.getLossP99Cents()).isLessThan(Math.round(result.getExposureCents() * 0.45));
+            assertThat(result.getCashFlowP5Cents()).isLessThanOrEqualTo(result.getCashFlowP50Cents())
+                .isGreaterThan(result.getExposureCents() - result.getLossP99Cents() - 1);
+            assertThat(result.getCashFlowP50Cents()).isLessThanOrEqualTo(result.getCashFlowP95Cents());
+        }
+    }
+
+    @Test
+    void skipsLoansPaidOffBeforeTheValuationMonth() {
+        book.add(loan(1, RiskLevel.HIGH, 12, LocalDateTime.of(2020, 1, 1, 0, 0)));
+        book.add(loan(2, RiskLevel.HIGH, 60, LocalDateTime.of(2024, 12, 1, 0, 0)));
+
+        PortfolioRiskSimulation result = simulator(2).simulate(VALUATION_MONTH, 10, 1L);
+
+        assertThat(result.getLoanCount()).isEqualTo(1);
+        assertThat(result.getExposureCents()).isEqualTo(2_000_000L);
+    }
+
+    @Test
+    void defaultRiskFollowsCreditScoreAndDebtToIncome() {
+        double base = PortfolioRiskSimulationService.annualDefaultRate(RiskLevel.MEDIUM, 700, new BigDecimal("0.30"));
+        assertThat(base).isEqualTo(0.03);
+        assertThat(PortfolioRiskSimulationService.annualDefaultRate(RiskLevel.MEDIUM, 550, new BigDecimal("0.30")))
+            .isGreaterThan(base);
+        assertThat(PortfolioRiskSimulationService.annualDefaultRate(RiskLevel.MEDIUM, 700, new BigDecimal("0.50")))
+            .isGreaterThan(base);
+        assertThat(PortfolioRiskSimulationService.annualDefaultRate(RiskLevel.VERY_HIGH, 300, new BigDecimal("0.99")))
+            .isEqualTo(0.60);
+    }
+
+    @Test
+    void rejectsPathCountOutsideLimits() {
+        assertThatThrownBy(() -> simulator(1).simulate(VALUATION_MONTH, 0, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> simulator(1).simulate(VALUATION_MONTH, 10_001, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PortfolioRiskSimulationService simulator(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        pools.add(pool);
+        PortfolioRiskSimulationService simulator = new PortfolioRiskSimulationService(new AnnuityFactorCache());
+        ReflectionTestUtils.setField(simulator, "loanApplicationRepository", repository);
+        ReflectionTestUtils.setField(simulator, "loanCalculationPool", pool);
+        ReflectionTestUtils.setField(simulator, "chunkSize", 64);
+        return simulator;
+    }
+
+    private void addLoans(RiskLevel riskLevel, int count) {
+        for (int i = 0; i < count; i++) {
+            book.add(loan(book.size() + 1, riskLevel, 60, LocalDateTime.of(2024, 12, 1, 0, 0)));
+        }
+    }
+
+    private static LoanTermsView loan(long id, RiskLevel riskLevel, int termMonths, LocalDateTime originatedAt) {
+        return new LoanTermsView(id, new BigDecimal("20000.00"), new BigDecimal("9.5"), termMonths,
+            LoanType.PERSONAL, originatedAt, riskLevel, 700, new BigDecimal("0.30"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.loanportal.dto.AmortizationScheduleEntry;
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.PrepaymentEvent;
+import com.fintech.loanportal.dto.PrepaymentScenario;
+import com.fintech.loanportal.dto.PrepaymentScenarioResult;
+import com.fintech.loanportal.dto.PrepaymentSimulation;
+import com.fintech.loanportal.dto.PrepaymentSimulationRequest;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+class PrepaymentSimulationServiceTest {
+
+    private final PrepaymentSimulationService simulationService = new PrepaymentSimulationService();
+    private final LoanCalculationService calculationService = new LoanCalculationService(new AnnuityFactorCache());
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(simulationService, "loanCalculationService", calculationService);
+        ReflectionTestUtils.setField(simulationService, "loanCalculationPool", pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void incrementalRecomputeMatchesFullReplay() {
+        LoanCalculationRequest loan = loan("250000.00", "6.75", 360);
+        List<PrepaymentScenario> scenarios = List.of(
+            scenario(new PrepaymentEvent(24, new BigDecimal("200.00"), true)),
+            scenario(new PrepaymentEvent(1, new BigDecimal("15000.00"), false)),
+            scenario(new PrepaymentEvent(60, new BigDecimal("5000.00"), false),
+                new PrepaymentEvent(12, new BigDecimal("100.00"), true),
+                new PrepaymentEvent(120, new BigDecimal("50.00"), true)),
+            scenario(new PrepaymentEvent(360, new BigDecimal("10.00"), false)));
+
+        PrepaymentSimulation simulation = simulationService.simulate(request(loan, scenarios, true));
+        LoanCalculationResult base = calculationService.calculateLoan(loan);
+
+        assertThat(simulation.getPayoffPaymentNumber()).isEqualTo(360);
+        for (int i = 0; i < scenarios.size(); i++) {
+            PrepaymentScenarioResult result = simulation.getScenarios().get(i);
+            List<AmortizationScheduleEntry> expected = replay(base, scenarios.get(i).getEvents());
+            AmortizationScheduleEntry last = expected.get(expected.size() - 1);
+
+            assertThat(result.getAmortizationSchedule()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected);
+            assertThat(result.getPayoffPaymentNumber()).isEqualTo(last.getPaymentNumber());
+            assertThat(result.getPayoffDate()).isEqualTo(last.getPaymentDate());
+            assertThat(result.getTotalInterest()).isEqualByComparingTo(last.getCumulativeInterest());
+            assertThat(result.getInterestSaved())
+                .isEqualByComparingTo(simulation.getTotalInterest().subtract(last.getCumulativeInterest()));
+            assertThat(last.getRemainingBalance()).isZero();
+        }
+        assertThat(simulation.getScenarios().get(0).getInterestSaved()).isPositive();
+        assertThat(simulation.getScenarios().get(0).getMonthsSaved()).isPositive();
+    }
+
+    @Test
+    void lumpSumCoveringTheBalancePaysOffThatMonth() {
+        PrepaymentSimulation simulation = simulationService.simulate(request(loan("20000.00", "5.00", 60),
+            List.of(scenario(new PrepaymentEvent(12, new BigDecimal("50000.00"), false))), false));
+
+        PrepaymentScenarioResult result = simulation.getScenarios().get(0);
+        assertThat(result.getPayoffPaymentNumber()).isEqualTo(12);
+        assertThat(result.getMonthsSaved()).isEqualTo(48);
+        assertThat(result.getTotalExtraPayments()).isLessThan(new BigDecimal("50000.00"));
+        assertThat(result.getAmortizationSchedule()).isNull();
+    }
+
+    @Test
+    void largeRequestsRunInParallelAndKeepRequestOrder() {
+        List<PrepaymentScenario> scenarios = new ArrayList<>();
+        for (int extra = 10; extra <= 2000; extra += 10) {
+            PrepaymentScenario scenario = scenario(new PrepaymentEvent(6, BigDecimal.valueOf(extra), true));
+            scenario.setName("extra-" + extra);
+            scenarios.add(scenario);
+        }
+
+        List<PrepaymentScenarioResult> results = simulationService
+            .simulate(request(loan("300000.00", "7.00", 360), scenarios, false)).getScenarios();
+
+        assertThat(results).hasSize(scenarios.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getName()).isEqualTo(scenarios.get(i).getName());
+            if (i > 0) {
+                assertThat(results.get(i).getPayoffPaymentNumber())
+                    .isLessThanOrEqualTo(results.get(i - 1).getPayoffPaymentNumber());
+                assertThat(results.get(i).getInterestSaved()).isGreaterThan(results.get(i - 1).getInterestSaved());
+            }
+        }
+    }
+
+    @Test
+    void ignoresScheduleOptionsOnTheNestedLoan() {
+        List<PrepaymentScenario> scenarios = List.of(scenario(new PrepaymentEvent(24, new BigDecimal("200.00"), true)));
+        LoanCalculationRequest summaryOnly = loan("250000.00", "6.75", 360);
+        summaryOnly.setIncludeSchedule(false);
+        summaryOnly.setRollups(EnumSet.allOf(RollupPeriod.class));
+
+        PrepaymentSimulation expected =
+            simulationService.simulate(request(loan("250000.00", "6.75", 360), scenarios, false));
+        PrepaymentSimulation actual = simulationService.simulate(request(summaryOnly, scenarios, false));
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(actual.getScenarios().get(0).getInterestSaved()).isPositive();
+    }
+
+    @Test
+    void rejectsEventsOutsideTheTerm() {
+        assertThatThrownBy(() -> simulationService.simulate(request(loan("20000.00", "5.00", 60),
+            List.of(scenario(new PrepaymentEvent(61, new BigDecimal("100.00"), false))), false)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 1 and 60");
+    }
+
+    /**
+     * Straightforward month-by-month replay from the first payment.
+     */
+    private static List<AmortizationScheduleEntry> replay(LoanCalculationResult base, List<PrepaymentEvent> events) {
+        int term = base.getTermMonths();
+        long[] extras = new long[term + 2];
+        for (PrepaymentEvent event : events) {
+            long cents = FixedPointLoanMath.toCents(event.getAmount());
+            for (int month = event.getPaymentNumber(); month <= (event.isRecurring() ? term : event.getPaymentNumber()); month++) {
+                extras[month] += cents;
+            }
+        }
+        long rate = FixedPointLoanMath.monthlyRateE8(base.getInterestRate());
+        long payment = FixedPointLoanMath.toCents(base.getMonthlyPayment());
+        long balance = FixedPointLoanMath.toCents(base.getLoanAmount());
+        long cumulative = 0;
+        LocalDate firstDate = base.getAmortizationSchedule().get(0).getPaymentDate();
+
+        List<AmortizationScheduleEntry> rows = new ArrayList<>();
+        for (int month = 1; balance > 0 && month <= term; month++) {
+            long interest = FixedPointLoanMath.monthlyInterestCents(balance, rate);
+            long principal = Math.min(payment - interest, balance);
+            long extra = Math.min(extras[month], balance - principal);
+            if (month == term) {
+                principal = balance - extra;
+            }
+            balance -= principal + extra;
+            cumulative += interest;
+            rows.add(AmortizationScheduleEntry.builder()
+                .paymentNumber(month)
+                .paymentDate(firstDate.plusMonths(month - 1))
+                .paymentAmount(FixedPointLoanMath.fromCents(principal + extra + interest))
+                .principalPayment(FixedPointLoanMath.fromCents(principal + extra))
+                .interestPayment(FixedPointLoanMath.fromCents(interest))
+                .remainingBalance(FixedPointLoanMath.fromCents(balance))
+                .cumulativeInterest(FixedPointLoanMath.fromCents(cumulative))
+                .build());
+        }
+        return rows;
+    }
+
+    private static PrepaymentSimulationRequest request(LoanCalculationRequest loan, List<PrepaymentScenario> scenarios,
+                                                       boolean includeSchedule) {
+        PrepaymentSimulationRequest request = new PrepaymentSimulationRequest();
+        request.setLoan(loan);
+        request.setScenarios(scenarios);
+        request.setIncludeSchedule(includeSchedule);
+        return request;
+    }
+
+    private static PrepaymentScenario scenario(PrepaymentEvent... events) {
+        return new PrepaymentScenario(null, List.of(events));
+    }
+
+    private static LoanCalculationRequest loan(String amount, String rate, int term) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setLoanTermMonths(term);
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        return request;
+    }
+}
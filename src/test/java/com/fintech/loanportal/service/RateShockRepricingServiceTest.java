@@ -0,0 +1,159 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.RateShockJobStatus;
+import com.fintech.loanportal.dto.RateShockReport;
+import com.fintech.loanportal.dto.RateShockSegment;
+import com.fintech.loanportal.entity.LoanApplication.LoanType;
+import com.fintech.loanportal.repository.LoanApplicationRepository;
+import com.fintech.loanportal.repository.LoanTermsView;
+
+class RateShockRepricingServiceTest {
+
+    private final RateShockRepricingService repricingService = new RateShockRepricingService(new AnnuityFactorCache());
+    private final LoanApplicationRepository repository = mock(LoanApplicationRepository.class);
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final Queue<Runnable> pendingJobs = new ArrayDeque<>();
+    private final List<LoanTermsView> book = new ArrayList<>();
+    private final AtomicInteger failOnCall = new AtomicInteger(-1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repricingService, "loanApplicationRepository", repository);
+        ReflectionTestUtils.setField(repricingService, "loanCalculationPool", pool);
+        ReflectionTestUtils.setField(repricingService, "jobExecutor", (Executor) pendingJobs::add);
+        ReflectionTestUtils.setField(repricingService, "chunkSize", 4);
+        when(repository.findLoanTermsAfter(any(), anyLong(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == failOnCall.get()) {
+                throw new IllegalStateException("connection reset");
+            }
+            long afterId = invocation.getArgument(1);
+            Pageable page = invocation.getArgument(2);
+            return book.stream().filter(loan -> loan.id() > afterId).limit(page.getPageSize()).toList();
+        });
+        LoanType[] types = {LoanType.AUTO, LoanType.MORTGAGE, LoanType.PERSONAL};
+        for (int i = 1; i <= 15; i++) {
+            book.add(new LoanTermsView(i, BigDecimal.valueOf(10_000L * i, 0), new BigDecimal("5.125").add(
+                BigDecimal.valueOf(i, 2)), 12 * (1 + i % 5), types[i % 3], LocalDateTime.of(2024, 1, 1, 0, 0),
+                null, null, null));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void totalsMatchIndividuallyRepricedLoans() {
+        RateShockReport report = runToEnd(repricingService.start(List.of(100, 200, -300)).getJobId());
+
+        assertThat(report.getStatus()).isEqualTo(RateShockJobStatus.COMPLETED);
+        assertThat(report.getLoansProcessed()).isEqualTo(15);
+        assertThat(report.getSegments()).extracting(RateShockSegment::getLoanType)
+            .containsExactly(LoanType.PERSONAL, LoanType.AUTO, LoanType.MORTGAGE);
+        LoanCalculationService calculator = new LoanCalculationService(new AnnuityFactorCache());
+        int[] shocks = {0, 100, 200, -300};
+        for (RateShockSegment segment : report.getSegments()) {
+            for (int s = 0; s < shocks.length; s++) {
+                long payments = 0;
+                long interest = 0;
+                for (LoanTermsView loan : book) {
+                    if (loan.loanType() == segment.getLoanType()) {
+                        LoanCalculationResult summary = calculator.calculateLoanSummary(
+                            request(loan, loan.interestRate().add(BigDecimal.valueOf(shocks[s], 2))));
+                        payments += FixedPointLoanMath.toCents(summary.getMonthlyPayment());
+                        interest += FixedPointLoanMath.toCents(summary.getTotalInterest());
+                    }
+                }
+                assertThat(segment.getMonthlyPaymentCents()[s]).as("%s shock %s", segment.getLoanType(), shocks[s])
+                    .isEqualTo(payments);
+                assertThat(segment.getTotalInterestCents()[s]).isEqualTo(interest);
+            }
+        }
+    }
+
+    @Test
+    void failedJobResumesFromItsCheckpoint() {
+        RateShockReport clean = runToEnd(repricingService.start(List.of(100)).getJobId());
+        calls.set(0);
+        failOnCall.set(3);
+
+        String jobId = repricingService.start(List.of(100)).getJobId();
+        RateShockReport failed = runToEnd(jobId);
+        assertThat(failed.getStatus()).isEqualTo(RateShockJobStatus.FAILED);
+        assertThat(failed.getFailure()).isEqualTo("connection reset");
+        assertThat(failed.getLastLoanId()).isEqualTo(8);
+
+        repricingService.resume(jobId);
+        RateShockReport resumed = runToEnd(jobId);
+
+        assertThat(resumed.getStatus()).isEqualTo(RateShockJobStatus.COMPLETED);
+        assertThat(resumed.getSegments()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(clean.getSegments());
+    }
+
+    @Test
+    void cancelledJobStopsAndCanBeResumed() {
+        String jobId = repricingService.start(RateShockRepricingService.DEFAULT_SHOCKS_BP).getJobId();
+        repricingService.cancel(jobId);
+        RateShockReport cancelled = runToEnd(jobId);
+        assertThat(cancelled.getStatus()).isEqualTo(RateShockJobStatus.CANCELLED);
+        assertThat(cancelled.getLoansProcessed()).isZero();
+
+        assertThatThrownBy(() -> repricingService.resume(runToEnd(
+            repricingService.start(List.of(100)).getJobId()).getJobId()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        repricingService.resume(jobId);
+        assertThat(runToEnd(jobId).getLoansProcessed()).isEqualTo(15);
+    }
+
+    @Test
+    void rejectsInvalidShocks() {
+        assertThatThrownBy(() -> repricingService.start(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repricingService.start(List.of(100, 2500)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RateShockReport runToEnd(String jobId) {
+        while (!pendingJobs.isEmpty()) {
+            pendingJobs.poll().run();
+        }
+        return repricingService.getReport(jobId);
+    }
+
+    private static LoanCalculationRequest request(LoanTermsView loan, BigDecimal rate) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(loan.loanAmount());
+        request.setInterestRate(rate);
+        request.setLoanTermMonths(loan.loanTermMonths());
+        return request;
+    }
+}
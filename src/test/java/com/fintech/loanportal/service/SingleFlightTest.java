@@ -0,0 +1,119 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        singleFlight.bindTo(registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(executor.submit(() -> singleFlight.execute("quote", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return new Object();
+            })));
+        }
+        waitUntil(() -> registry.get("singleflight.calls").tag("result", "coalesced").functionCounter().count() == 7);
+        release.countDown();
+
+        Object first = calls.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(registry.get("singleflight.calls").tag("result", "leader").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreSharedButNotRemembered() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("quote", () -> {
+            await(release);
+            throw new IllegalArgumentException("boom");
+        }));
+        waitUntil(() -> singleFlight.getInFlightCount() == 1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("quote", () -> "unused"));
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> call : List.of(leader, follower)) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(singleFlight.execute("quote", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void waitersComputeOnTheirOwnAfterTimeoutOrStopWhenInterrupted() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        singleFlight.bindTo(registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stuck = executor.submit(() -> singleFlight.execute("quote", () -> {
+            await(release);
+            return "slow";
+        }));
+        waitUntil(() -> singleFlight.getInFlightCount() == 1);
+
+        assertThat(singleFlight.execute("quote", () -> "own")).isEqualTo("own");
+        assertThat(registry.get("singleflight.timeouts").functionCounter().count()).isEqualTo(1);
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> singleFlight.execute("quote", () -> "unused"))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(Thread.interrupted()).isTrue();
+
+        release.countDown();
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
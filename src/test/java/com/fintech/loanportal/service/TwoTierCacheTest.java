@@ -0,0 +1,159 @@
+package com.fintech.loanportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.fintech.loanportal.dto.LoanCalculationRequest;
+import com.fintech.loanportal.dto.LoanCalculationResult;
+import com.fintech.loanportal.dto.RollupPeriod;
+
+class TwoTierCacheTest {
+
+    private final InMemoryRemoteCacheStore remote = new InMemoryRemoteCacheStore();
+    private final AtomicLong clock = new AtomicLong();
+    private final LoanCalculationService service = new LoanCalculationService(new AnnuityFactorCache());
+
+    @Test
+    void codecRoundTripsFullResultCompactly() {
+        LoanCalculationResult result = service.calculateLoan(request("450000.00", "6.75", 360));
+
+        byte[] bytes = LoanCalculationResultCodec.encode(result);
+        LoanCalculationResult decoded = LoanCalculationResultCodec.decode(bytes);
+
+        assertThat(LoanCalculationService.findMismatch(result, decoded)).isNull();
+        assertThat(decoded.getAmortizationSchedule().get(17).getPaymentDate())
+            .isEqualTo(result.getAmortizationSchedule().get(17).getPaymentDate());
+        assertThat(decoded.getCalculatedAt()).isEqualTo(result.getCalculatedAt());
+        assertThat(bytes.length).isLessThan(360 * 24);
+    }
+
+    @Test
+    void codecRoundTripsRollupsWithoutSchedule() {
+        LoanCalculationRequest request = request("450000.00", "6.75", 360);
+        request.setRollups(EnumSet.allOf(RollupPeriod.class));
+        request.setIncludeSchedule(false);
+        LoanCalculationResult result = service.calculateLoan(request);
+
+        LoanCalculationResult decoded = LoanCalculationResultCodec.decode(LoanCalculationResultCodec.encode(result));
+
+        assertThat(decoded.getAmortizationSchedule()).isNull();
+        assertThat(decoded.getQuarterlyRollups()).hasSize(120);
+        assertThat(LoanCalculationService.findMismatch(result, decoded)).isNull();
+        assertThat(decoded.getYearlyRollups().get(29).getEndDate()).isEqualTo(result.getYearlyRollups().get(29).getEndDate());
+    }
+
+    @Test
+    void secondNodeReadsResultFromRemoteTier() {
+        TwoTierCache nodeA = cache();
+        TwoTierCache nodeB = cache();
+        LoanCalculationRequest request = request("250000", "6.5", 360);
+        LoanCalculationKey key = LoanCalculationKey.of(request);
+
+        nodeA.put(key, service.calculateLoan(request));
+        Cache.ValueWrapper fromB = nodeB.get(key);
+
+        assertThat(fromB).isNotNull();
+        assertThat(((LoanCalculationResult) fromB.get()).getAmortizationSchedule()).hasSize(360);
+        assertThat(nodeB.getLocalCache().get(key)).isNotNull();
+    }
+
+    @Test
+    void fallsBackToLocalTierWhileRemoteIsDown() {
+        TwoTierCache cache = cache();
+        LoanCalculationKey key = LoanCalculationKey.of(request("90000", "4.25", 120));
+        remote.down = true;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(key)).isNull();
+        }
+        assertThat(cache.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsWhenOpened = remote.calls;
+        cache.put(key, service.calculateLoan(request("90000", "4.25", 120)));
+        assertThat(cache.get(key)).isNotNull();
+        assertThat(remote.calls).isEqualTo(callsWhenOpened);
+
+        remote.down = false;
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.evict(key);
+        assertThat(cache.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowRemoteCallsTripTheBreaker() {
+        InMemoryRemoteCacheStore slowRemote = new InMemoryRemoteCacheStore() {
+            @Override
+            public byte[] get(String key) {
+                clock.addAndGet(Duration.ofMillis(200).toNanos());
+                return super.get(key);
+            }
+        };
+        TwoTierCache cache = new TwoTierCache("loanCalculations", new ConcurrentMapCache("l1", false), slowRemote,
+            codec(), String::valueOf, Duration.ofHours(1), breaker());
+
+        for (int i = 0; i < 3; i++) {
+            cache.get("key-" + i);
+        }
+
+        assertThat(cache.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void lateSuccessDoesNotCloseAnOpenBreaker() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+
+        breaker.onSuccess(0);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(0);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private TwoTierCache cache() {
+        return new TwoTierCache("loanCalculations", new ConcurrentMapCache("l1", false), remote, codec(),
+            key -> ((LoanCalculationKey) key).toRemoteKey(), Duration.ofHours(1), breaker());
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(3, Duration.ofSeconds(30), Duration.ofMillis(50), clock::get);
+    }
+
+    private static TwoTierCache.ValueCodec codec() {
+        return new TwoTierCache.ValueCodec() {
+            @Override
+            public byte[] encode(Object value) {
+                return LoanCalculationResultCodec.encode((LoanCalculationResult) value);
+            }
+
+            @Override
+            public Object decode(byte[] bytes) {
+                return LoanCalculationResultCodec.decode(bytes);
+            }
+        };
+    }
+
+    private static LoanCalculationRequest request(String amount, String rate, int termMonths) {
+        LoanCalculationRequest request = new LoanCalculationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setLoanTermMonths(termMonths);
+        request.setStartDate(LocalDate.of(2024, 1, 15));
+        return request;
+    }
+}